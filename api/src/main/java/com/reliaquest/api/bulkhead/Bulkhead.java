@@ -0,0 +1,250 @@
+package com.reliaquest.api.bulkhead;
+
+import com.reliaquest.api.deadline.RequestDeadline;
+import com.reliaquest.api.exception.BulkheadFullException;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.EmployeeServiceException;
+import com.reliaquest.api.metrics.RequestTiming;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs one class of upstream work on its own bounded pool, so a burst of one kind (say, creates stuck in 429 backoff)
+ * can use up only its own threads and queue, never another kind's. Callers wait for the result on their own thread;
+ * the request's deadline and timing are carried over to the worker.
+ *
+ * <p>Each upstream attempt made from a worker first takes a permit from the shared {@link UpstreamScheduler}, by
+ * default as the bulkhead's priority class, see {@link #acquireUpstreamPermit()}.
+ */
+@Slf4j
+public class Bulkhead implements AutoCloseable {
+
+    /**
+     * What happens to a call that finds every thread busy and the queue full.
+     */
+    public enum Rejection {
+        /**
+         * The new call fails with {@link BulkheadFullException}.
+         */
+        FAIL,
+        /**
+         * The longest-queued call fails with {@link BulkheadFullException} and the new one takes its place, for work
+         * where only the latest request matters.
+         */
+        DISCARD_OLDEST
+    }
+
+    static final String ACTIVE = "employee.bulkhead.active";
+    static final String QUEUED = "employee.bulkhead.queued";
+    static final String SATURATION = "employee.bulkhead.saturation";
+    static final String REJECTED = "employee.bulkhead.rejected";
+    static final String WAIT = "employee.bulkhead.wait";
+
+    private static final ThreadLocal<Bulkhead> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final Rejection rejection;
+    private final ThreadPoolExecutor executor;
+    private final UpstreamScheduler scheduler;
+    private final UpstreamScheduler.Priority priority;
+    private final Counter rejected;
+    private final Timer queueWait;
+    private final Timer budgetWait;
+
+    public Bulkhead(
+            String name,
+            int maxConcurrent,
+            int queueCapacity,
+            Rejection rejection,
+            UpstreamScheduler scheduler,
+            UpstreamScheduler.Priority priority,
+            MeterRegistry meterRegistry) {
+        this.name = name;
+        this.rejection = rejection;
+        BlockingQueue<Runnable> queue =
+                queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+        AtomicInteger threads = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "bulkhead-" + name + "-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor =
+                new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 60, TimeUnit.SECONDS, queue, threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        this.scheduler = scheduler;
+        this.priority = priority;
+
+        double capacity = maxConcurrent + queueCapacity;
+        Gauge.builder(ACTIVE, executor, ThreadPoolExecutor::getActiveCount)
+                .description("Bulkhead threads running a call")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder(QUEUED, executor, pool -> pool.getQueue().size())
+                .description("Calls waiting for a bulkhead thread")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder(SATURATION, executor, pool -> (pool.getActiveCount() + pool.getQueue().size()) / capacity)
+                .description("Share of a bulkhead's threads and queue slots in use; at 1, new calls are rejected")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.rejected = Counter.builder(REJECTED)
+                .description("Calls a full bulkhead turned away or dropped")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.queueWait = Timer.builder(WAIT)
+                .description("Time calls waited for a bulkhead thread or upstream permit")
+                .tag("bulkhead", name)
+                .tag("stage", "queue")
+                .register(meterRegistry);
+        this.budgetWait = Timer.builder(WAIT)
+                .description("Time calls waited for a bulkhead thread or upstream permit")
+                .tag("bulkhead", name)
+                .tag("stage", "budget")
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Runs {@code call} on this bulkhead and waits for its result, at most until the request's deadline; a call that
+     * runs past it is interrupted. Exceptions thrown by the call are rethrown as they are.
+     */
+    public <T> T call(Supplier<T> call) {
+        RequestDeadline deadline = RequestDeadline.current();
+        UpstreamScheduler.Priority requested = UpstreamScheduler.requestedPriority();
+        boolean timed = RequestTiming.current() != null;
+        long submittedNanos = System.nanoTime();
+        AtomicReference<RequestTiming.Snapshot> phases = new AtomicReference<>();
+        FutureTask<T> task = new FutureTask<>(() -> run(call, deadline, requested, timed, submittedNanos, phases));
+        submit(task);
+        try {
+            return deadline == null ? task.get() : task.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new EmployeeServiceException("Call in the " + name + " bulkhead failed", e.getCause());
+        } catch (CancellationException e) {
+            throw new BulkheadFullException("Dropped from the " + name + " bulkhead for a newer call");
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            throw new DeadlineExceededException("Deadline exceeded in the " + name + " bulkhead");
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new EmployeeServiceException("Interrupted waiting for the " + name + " bulkhead", e);
+        } finally {
+            RequestTiming.Snapshot snapshot = phases.get();
+            if (snapshot != null) {
+                RequestTiming.add(snapshot);
+            }
+        }
+    }
+
+    /**
+     * Takes an upstream permit for the bulkhead running the current thread, waiting for it if needed; a no-op outside
+     * a bulkhead. Gives up if the wait would outlast the request's deadline.
+     */
+    public static void acquireUpstreamPermit() {
+        Bulkhead bulkhead = CURRENT.get();
+        if (bulkhead != null) {
+            bulkhead.awaitPermit();
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(
+            Supplier<T> call,
+            RequestDeadline deadline,
+            UpstreamScheduler.Priority requested,
+            boolean timed,
+            long submittedNanos,
+            AtomicReference<RequestTiming.Snapshot> phases) {
+        queueWait.record(System.nanoTime() - submittedNanos, TimeUnit.NANOSECONDS);
+        RequestTiming timing = timed ? RequestTiming.begin() : null;
+        RequestTiming.record(RequestTiming.Phase.QUEUE, submittedNanos);
+        RequestDeadline.set(deadline);
+        CURRENT.set(this);
+        try {
+            return UpstreamScheduler.withPriority(requested != null ? requested : priority, call);
+        } finally {
+            CURRENT.remove();
+            RequestDeadline.end();
+            if (timing != null) {
+                phases.set(timing.snapshot());
+                RequestTiming.end();
+            }
+        }
+    }
+
+    private void submit(FutureTask<?> task) {
+        while (true) {
+            try {
+                executor.execute(task);
+                return;
+            } catch (RejectedExecutionException e) {
+                if (executor.isShutdown()) {
+                    throw new BulkheadFullException("The " + name + " bulkhead is shut down");
+                }
+                rejected.increment();
+                Runnable oldest = rejection == Rejection.DISCARD_OLDEST ? executor.getQueue().poll() : null;
+                if (oldest == null) {
+                    log.warn("Bulkhead {} is full, rejecting call", name);
+                    throw new BulkheadFullException("The " + name + " bulkhead is full");
+                }
+                ((Future<?>) oldest).cancel(false);
+                log.debug("Bulkhead {} is full, dropped its oldest queued call", name);
+            }
+        }
+    }
+
+    private void awaitPermit() {
+        if (scheduler.isUnlimited()) {
+            return;
+        }
+        long start = System.nanoTime();
+        RequestDeadline deadline = RequestDeadline.current();
+        long timeoutNanos = deadline == null ? Long.MAX_VALUE : deadline.remaining().toNanos();
+        boolean granted;
+        try {
+            granted = scheduler.acquire(UpstreamScheduler.requestedPriority(), timeoutNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmployeeServiceException("Interrupted waiting for an upstream permit in " + name, e);
+        } finally {
+            budgetWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            RequestTiming.record(RequestTiming.Phase.QUEUE, start);
+        }
+        if (!granted) {
+            throw new DeadlineExceededException("Deadline exceeded waiting for an upstream permit in " + name);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.reliaquest.api.bulkhead;
+
+import java.util.function.BiFunction;
+
+/**
+ * The bulkheads upstream traffic is split into: interactive reads, writes, and background refreshes of the roster,
+ * each scheduled for upstream permits as its own priority class.
+ */
+public class Bulkheads implements AutoCloseable {
+
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+    public static final String REFRESH = "refresh";
+
+    private final Bulkhead read;
+    private final Bulkhead write;
+    private final Bulkhead refresh;
+
+    public Bulkheads(BiFunction<String, UpstreamScheduler.Priority, Bulkhead> factory) {
+        this.read = factory.apply(READ, UpstreamScheduler.Priority.INTERACTIVE);
+        this.write = factory.apply(WRITE, UpstreamScheduler.Priority.WRITE);
+        this.refresh = factory.apply(REFRESH, UpstreamScheduler.Priority.REFRESH);
+    }
+
+    public Bulkhead read() {
+        return read;
+    }
+
+    public Bulkhead write() {
+        return write;
+    }
+
+    public Bulkhead refresh() {
+        return refresh;
+    }
+
+    @Override
+    public void close() {
+        read.close();
+        write.close();
+        refresh.close();
+    }
+}
@@ -0,0 +1,42 @@
+package com.reliaquest.api.bulkhead;
+
+/**
+ * The upstream request rate, as a generic cell rate algorithm: permits are spaced {@code 1 / permitsPerSecond} apart,
+ * and up to {@code burst} unused permits may be taken at once.
+ */
+final class RateBudget {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private long theoreticalArrivalNanos = Long.MIN_VALUE;
+
+    /**
+     * @param permitsPerSecond 0 or less for no limit
+     */
+    RateBudget(double permitsPerSecond, int burst) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (1_000_000_000L / permitsPerSecond) : 0;
+        this.toleranceNanos = intervalNanos * (Math.max(1, burst) - 1);
+    }
+
+    /**
+     * Takes the next permit and returns how long to wait, from {@code nowNanos}, before using it.
+     */
+    synchronized long reserve(long nowNanos) {
+        if (intervalNanos == 0) {
+            return 0;
+        }
+        long arrival = Math.max(theoreticalArrivalNanos, nowNanos);
+        theoreticalArrivalNanos = arrival + intervalNanos;
+        return Math.max(0, arrival - toleranceNanos - nowNanos);
+    }
+
+    /**
+     * Returns how long, from {@code nowNanos}, until the next permit may be used, without taking it.
+     */
+    synchronized long waitNanos(long nowNanos) {
+        if (intervalNanos == 0) {
+            return 0;
+        }
+        return Math.max(0, Math.max(theoreticalArrivalNanos, nowNanos) - toleranceNanos - nowNanos);
+    }
+}
@@ -0,0 +1,174 @@
+package com.reliaquest.api.bulkhead;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Shares one upstream request rate between all bulkheads. Callers waiting for a permit are served in weighted fair
+ * queuing order (self-clocked): while several priority classes have callers waiting, each gets a share of the rate in
+ * proportion to its weight, and a class with nobody waiting leaves its share to the others. An interactive read
+ * arriving behind a backlog of bulk work therefore waits about one permit interval, not for the backlog, while bulk
+ * work still gets every permit interactive traffic leaves unused.
+ *
+ * <p>The class of a call is the one requested with {@link #withPriority(Priority, Supplier)}, or else the default of
+ * the bulkhead it runs in.
+ */
+public class UpstreamScheduler {
+
+    public enum Priority {
+        /**
+         * Reads a caller is waiting for.
+         */
+        INTERACTIVE,
+        /**
+         * Creates and deletes a caller is waiting for.
+         */
+        WRITE,
+        /**
+         * Background refreshes of the cached roster.
+         */
+        REFRESH,
+        /**
+         * Deferred work nobody is waiting for, such as queued writes.
+         */
+        BULK
+    }
+
+    static final String QUEUED = "employee.upstream.scheduler.queued";
+    static final String WAIT = "employee.upstream.scheduler.wait";
+
+    private static final ThreadLocal<Priority> PRIORITY = new ThreadLocal<>();
+
+    private final RateBudget budget;
+    private final boolean unlimited;
+    private final Map<Priority, Double> costs = new EnumMap<>(Priority.class);
+    private final Map<Priority, Double> lastFinish = new EnumMap<>(Priority.class);
+    private final Map<Priority, AtomicInteger> queued = new EnumMap<>(Priority.class);
+    private final Map<Priority, Timer> waits = new EnumMap<>(Priority.class);
+    private final PriorityQueue<Waiter> waiting =
+            new PriorityQueue<>(Comparator.comparingDouble(Waiter::finish).thenComparingLong(Waiter::sequence));
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private double virtualTime;
+    private long sequence;
+
+    private record Waiter(Priority priority, double finish, long sequence) {}
+
+    /**
+     * @param permitsPerSecond 0 or less for no limit
+     * @param weights classes without an entry get weight 1
+     */
+    public UpstreamScheduler(
+            double permitsPerSecond, int burst, Map<Priority, Integer> weights, MeterRegistry meterRegistry) {
+        this.budget = new RateBudget(permitsPerSecond, burst);
+        this.unlimited = permitsPerSecond <= 0;
+        for (Priority priority : Priority.values()) {
+            costs.put(priority, 1.0 / Math.max(1, weights.getOrDefault(priority, 1)));
+            lastFinish.put(priority, 0.0);
+            queued.put(priority, new AtomicInteger());
+            Gauge.builder(QUEUED, queued.get(priority), AtomicInteger::get)
+                    .description("Calls waiting for an upstream permit")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry);
+            waits.put(
+                    priority,
+                    Timer.builder(WAIT)
+                            .description("Time calls waited for an upstream permit")
+                            .tag("priority", priority.name().toLowerCase())
+                            .register(meterRegistry));
+        }
+    }
+
+    public boolean isUnlimited() {
+        return unlimited;
+    }
+
+    /**
+     * Runs {@code call} with its upstream attempts scheduled as {@code priority}, including those it makes through a
+     * bulkhead.
+     */
+    public static <T> T withPriority(Priority priority, Supplier<T> call) {
+        Priority previous = PRIORITY.get();
+        PRIORITY.set(priority);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                PRIORITY.remove();
+            } else {
+                PRIORITY.set(previous);
+            }
+        }
+    }
+
+    /**
+     * The class requested on this thread with {@link #withPriority(Priority, Supplier)}, or null.
+     */
+    static Priority requestedPriority() {
+        return PRIORITY.get();
+    }
+
+    /**
+     * Waits for the next permit due to {@code priority}.
+     *
+     * @return false, without taking a permit, if none would be granted within {@code timeoutNanos}
+     */
+    public boolean acquire(Priority priority, long timeoutNanos) throws InterruptedException {
+        if (unlimited) {
+            return true;
+        }
+        long start = System.nanoTime();
+        lock.lock();
+        Waiter waiter = enqueue(priority);
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                long remaining = timeoutNanos - (now - start);
+                if (waiting.peek() != waiter) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    changed.awaitNanos(remaining);
+                    continue;
+                }
+                long wait = budget.waitNanos(now);
+                if (wait == 0) {
+                    budget.reserve(now);
+                    virtualTime = waiter.finish();
+                    return true;
+                }
+                if (wait > remaining) {
+                    return false;
+                }
+                // Woken early if a caller due sooner arrives.
+                changed.awaitNanos(wait);
+            }
+        } finally {
+            waiting.remove(waiter);
+            queued.get(priority).decrementAndGet();
+            changed.signalAll();
+            lock.unlock();
+            waits.get(priority).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Waiter enqueue(Priority priority) {
+        double finish = Math.max(virtualTime, lastFinish.get(priority)) + costs.get(priority);
+        lastFinish.put(priority, finish);
+        Waiter waiter = new Waiter(priority, finish, sequence++);
+        waiting.add(waiter);
+        queued.get(priority).incrementAndGet();
+        changed.signalAll();
+        return waiter;
+    }
+}
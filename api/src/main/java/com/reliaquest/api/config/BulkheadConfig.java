@@ -0,0 +1,57 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.bulkhead.Bulkhead;
+import com.reliaquest.api.bulkhead.Bulkheads;
+import com.reliaquest.api.bulkhead.UpstreamScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bulkheads for upstream traffic, one per kind of work, each built from its own policy and all drawing upstream
+ * permits from one scheduler.
+ */
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+@Slf4j
+public class BulkheadConfig {
+
+    /**
+     * Shared with {@link com.reliaquest.api.service.AsyncEmployeeService}, whose calls run outside any bulkhead.
+     */
+    @Bean
+    public UpstreamScheduler upstreamScheduler(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        log.debug(
+                "Upstream scheduler: rate={}/s, weights={}", properties.getUpstreamRate(), properties.getWeights());
+        return new UpstreamScheduler(
+                properties.getUpstreamRate(),
+                (int) Math.ceil(properties.getUpstreamRate()),
+                properties.getWeights(),
+                meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public Bulkheads bulkheads(
+            BulkheadProperties properties, UpstreamScheduler scheduler, MeterRegistry meterRegistry) {
+        return new Bulkheads((name, priority) -> {
+            BulkheadProperties.Policy policy = properties.policyFor(name);
+            log.debug(
+                    "Bulkhead {}: maxConcurrent={}, queueCapacity={}, rejection={}, priority={}",
+                    name,
+                    policy.getMaxConcurrent(),
+                    policy.getQueueCapacity(),
+                    policy.getRejection(),
+                    priority);
+            return new Bulkhead(
+                    name,
+                    policy.getMaxConcurrent(),
+                    policy.getQueueCapacity(),
+                    policy.getRejection(),
+                    scheduler,
+                    priority,
+                    meterRegistry);
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.bulkhead.Bulkhead;
+import com.reliaquest.api.bulkhead.UpstreamScheduler;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-bulkhead limits, and how the bulkheads share one upstream request rate.
+ */
+@Data
+@ConfigurationProperties("employee.bulkhead")
+public class BulkheadProperties {
+
+    /**
+     * Upstream attempts per second, retries included, shared by all bulkheads; 0 for no limit.
+     */
+    private double upstreamRate = 0;
+
+    /**
+     * Share of {@code upstreamRate} each priority class gets while others are waiting too; classes without an entry
+     * get weight 1.
+     */
+    private Map<UpstreamScheduler.Priority, Integer> weights = new EnumMap<>(UpstreamScheduler.Priority.class);
+
+    /**
+     * Keyed by bulkhead name; bulkheads without an entry get the default policy.
+     */
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    public Policy policyFor(String bulkheadName) {
+        return policies.getOrDefault(bulkheadName, new Policy());
+    }
+
+    @Data
+    public static class Policy {
+
+        private int maxConcurrent = 8;
+
+        /**
+         * Calls that may wait for a thread; 0 means a call either gets a thread at once or is rejected.
+         */
+        private int queueCapacity = 16;
+
+        private Bulkhead.Rejection rejection = Bulkhead.Rejection.FAIL;
+    }
+}
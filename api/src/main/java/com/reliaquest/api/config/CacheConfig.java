@@ -1,10 +1,16 @@
 package com.reliaquest.api.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.List;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,6 +21,7 @@ import org.springframework.lang.NonNull;
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CachePolicyProperties.class)
 @NoArgsConstructor
 @Slf4j
 public class CacheConfig {
@@ -23,23 +30,96 @@ public class CacheConfig {
     public static final String EMPLOYEE_BY_ID_CACHE = "employeeById";
     public static final String EMPLOYEE_SEARCH_CACHE = "employeeSearch";
     public static final String SALARY_CALCULATIONS_CACHE = "salaryCalculations";
+    /**
+     * Ids the upstream answered 404 for, so repeated lookups of unknown ids are answered locally.
+     */
+    public static final String EMPLOYEE_NOT_FOUND_CACHE = "employeeNotFound";
+
+    public static final List<String> CACHE_NAMES = List.of(
+            ALL_EMPLOYEES_CACHE,
+            EMPLOYEE_BY_ID_CACHE,
+            EMPLOYEE_SEARCH_CACHE,
+            SALARY_CALCULATIONS_CACHE,
+            EMPLOYEE_NOT_FOUND_CACHE);
+
+    /**
+     * Builds each cache from its own policy. The cache names are fixed, so a typo in a cache annotation fails
+     * instead of quietly creating an unbounded cache.
+     */
+    @Bean
+    public CacheManager cacheManager(CachePolicyProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(
+                    String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new TimedCaffeineCache(
+                        name, cache, isAllowNullValues(), properties.policyFor(name).getEarlyRefreshBeta());
+            }
+        };
+        cacheManager.setCacheNames(CACHE_NAMES);
+        EstimatedSizeWeigher weigher = new EstimatedSizeWeigher();
+        for (String name : CACHE_NAMES) {
+            CachePolicyProperties.Policy policy = properties.policyFor(name);
+            long maximumWeight = properties.maximumWeight(name);
+            cacheManager.registerCustomCache(
+                    name,
+                    Caffeine.newBuilder()
+                            .expireAfter(new JitteredExpiry(policy.getExpireAfterWrite(), policy.getJitterPercent()))
+                            .maximumWeight(maximumWeight)
+                            .weigher(weigher)
+                            .recordStats()
+                            .build());
+            log.debug(
+                    "Cache {}: expireAfterWrite={} (-{}%), maximumWeight={} bytes",
+                    name,
+                    policy.getExpireAfterWrite(),
+                    policy.getJitterPercent(),
+                    maximumWeight);
+        }
+        return cacheManager;
+    }
 
     /**
-     * Custom key generator which creates keys based on method name and parameters.
+     * Custom key generator which creates keys based on method name and parameters. String parameters are case-folded,
+     * matching the case-insensitive search, so "Jo" and "jo" share an entry.
      */
     @Bean("searchKeyGenerator")
     public KeyGenerator searchKeyGenerator() {
         return new KeyGenerator() {
             @Override
             @NonNull public Object generate(@NonNull Object target, @NonNull Method method, @NonNull Object... params) {
-                StringBuilder keyBuilder = new StringBuilder();
-                keyBuilder.append(method.getName());
-                if (params != null && params.length > 0) {
-                    keyBuilder.append(":");
-                    keyBuilder.append(Arrays.toString(params));
-                }
-                return keyBuilder.toString();
+                return searchKey(method.getName(), params);
             }
         };
     }
+
+    /**
+     * The key {@link #searchKeyGenerator()} produces, for looking up entries outside a cache annotation.
+     */
+    public static String searchKey(String methodName, Object... params) {
+        StringBuilder keyBuilder = new StringBuilder();
+        keyBuilder.append(methodName);
+        if (params != null && params.length > 0) {
+            Object[] normalized = new Object[params.length];
+            for (int i = 0; i < params.length; i++) {
+                normalized[i] = params[i] instanceof String text ? foldCase(text) : params[i];
+            }
+            keyBuilder.append(":");
+            keyBuilder.append(Arrays.toString(normalized));
+        }
+        return keyBuilder.toString();
+    }
+
+    /**
+     * Folds each character the way {@link String#regionMatches(boolean, int, String, int, int)} compares them, so two
+     * strings fold to the same value exactly when they match ignoring case. Unlike {@link String#toLowerCase()} it
+     * never changes the length.
+     */
+    static String foldCase(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
 }
@@ -0,0 +1,54 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Per-cache expiry and size policies. Every cache is bounded by its share of one memory budget, weighed with
+ * {@link EstimatedSizeWeigher}.
+ */
+@Data
+@ConfigurationProperties("employee.cache")
+public class CachePolicyProperties {
+
+    private DataSize memoryBudget = DataSize.ofMegabytes(64);
+
+    /**
+     * Keyed by cache name; caches without an entry get the default policy.
+     */
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    public Policy policyFor(String cacheName) {
+        return policies.getOrDefault(cacheName, new Policy());
+    }
+
+    public long maximumWeight(String cacheName) {
+        return memoryBudget.toBytes() * policyFor(cacheName).getBudgetPercent() / 100;
+    }
+
+    @Data
+    public static class Policy {
+
+        private Duration expireAfterWrite = Duration.ofMinutes(5);
+
+        /**
+         * Percentage of {@code memoryBudget} this cache may hold.
+         */
+        private int budgetPercent = 25;
+
+        /**
+         * Each entry expires up to this percentage earlier than {@code expireAfterWrite}, so entries written together
+         * do not expire together.
+         */
+        private int jitterPercent = 10;
+
+        /**
+         * Eagerness of probabilistic early refresh; 0 disables it, larger values refresh further ahead of expiry.
+         */
+        private double earlyRefreshBeta = 1.0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.reliaquest.api.config;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.OffHeapRoster;
+import java.util.Collection;
+import java.util.Iterator;
+import org.springframework.lang.NonNull;
+
+/**
+ * Weighs cache entries by their approximate retained size in bytes, so one cached roster counts for what it holds
+ * rather than as a single entry. Figures assume a 64-bit JVM with compressed oops and Latin-1 compact strings. Titles
+ * and email domains are shared between employees, but each employee is charged its own title as a safe upper bound.
+ */
+public class EstimatedSizeWeigher implements Weigher<Object, Object> {
+
+    static final int ENTRY_OVERHEAD = 64;
+    static final int OBJECT_HEADER = 16;
+    static final int REFERENCE = 4;
+    static final int STRING_OVERHEAD = 40;
+    static final int BOXED_NUMBER = 16;
+    static final int EMPLOYEE_SHELL = OBJECT_HEADER + 7 * REFERENCE;
+
+    /**
+     * An {@link OffHeapRoster} keeps its rows outside the heap; this covers the roster object and its buffer views.
+     */
+    static final int OFF_HEAP_ROSTER = 512;
+
+    /**
+     * Larger collections are weighed from a sample of their leading elements.
+     */
+    static final int SAMPLE_SIZE = 256;
+
+    @Override
+    public int weigh(@NonNull Object key, @NonNull Object value) {
+        long bytes = ENTRY_OVERHEAD + estimate(key) + estimate(value);
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            return STRING_OVERHEAD + string.length();
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return BOXED_NUMBER;
+        }
+        if (value instanceof Employee employee) {
+            return EMPLOYEE_SHELL
+                    + estimate(employee.getId())
+                    + estimate(employee.getEmployeeName())
+                    + estimate(employee.getEmployeeSalary())
+                    + estimate(employee.getEmployeeAge())
+                    + estimate(employee.getEmployeeTitle())
+                    + estimate(employee.getEmailLocalPart());
+        }
+        if (value instanceof OffHeapRoster) {
+            return OFF_HEAP_ROSTER;
+        }
+        if (value instanceof Collection<?> collection) {
+            return estimate(collection);
+        }
+        return OBJECT_HEADER + 4L * REFERENCE;
+    }
+
+    private static long estimate(Collection<?> collection) {
+        int size = collection.size();
+        long shell = 2L * OBJECT_HEADER + (long) REFERENCE * size;
+        long sampled = 0;
+        int count = 0;
+        for (Iterator<?> it = collection.iterator(); it.hasNext() && count < SAMPLE_SIZE; count++) {
+            sampled += estimate(it.next());
+        }
+        return count == 0 ? shell : shell + sampled * size / count;
+    }
+}
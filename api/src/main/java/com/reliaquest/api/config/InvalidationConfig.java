@@ -0,0 +1,45 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.invalidation.DirectoryInvalidationBus;
+import com.reliaquest.api.invalidation.InvalidationBus;
+import com.reliaquest.api.invalidation.MulticastInvalidationBus;
+import com.reliaquest.api.invalidation.NoOpInvalidationBus;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class InvalidationConfig {
+
+    public enum Transport {
+        NONE,
+        MULTICAST,
+        DIRECTORY
+    }
+
+    /**
+     * Picks the transport that carries cache changes to the other API instances; {@code none} leaves peers to expiry.
+     */
+    @Bean
+    public InvalidationBus invalidationBus(
+            ObjectMapper objectMapper,
+            @Value("${employee.invalidation.transport:none}") Transport transport,
+            @Value("${employee.invalidation.multicast-group:239.255.42.99}") String multicastGroup,
+            @Value("${employee.invalidation.multicast-port:4446}") int multicastPort,
+            @Value("${employee.invalidation.directory:data/invalidation}") Path directory,
+            @Value("${employee.invalidation.poll-interval:500ms}") Duration pollInterval,
+            @Value("${employee.invalidation.retention:5m}") Duration retention)
+            throws IOException {
+        return switch (transport) {
+            case NONE -> new NoOpInvalidationBus();
+            case MULTICAST -> new MulticastInvalidationBus(
+                    objectMapper, new InetSocketAddress(multicastGroup, multicastPort));
+            case DIRECTORY -> new DirectoryInvalidationBus(objectMapper, directory, pollInterval, retention);
+        };
+    }
+}
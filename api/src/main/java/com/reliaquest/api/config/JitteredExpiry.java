@@ -0,0 +1,49 @@
+package com.reliaquest.api.config;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import org.springframework.lang.NonNull;
+
+/**
+ * Expires each entry a random amount earlier than the configured time to live, so entries written together, e.g. the
+ * roster and everything derived from it after a write evicted them, do not all expire and reload together. The jitter
+ * only shortens the lifetime, so the configured time to live stays an upper bound on staleness.
+ */
+class JitteredExpiry implements Expiry<Object, Object> {
+
+    private final long timeToLiveNanos;
+    private final double jitter;
+    private final DoubleSupplier random;
+
+    JitteredExpiry(Duration timeToLive, int jitterPercent) {
+        this(timeToLive, jitterPercent, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    JitteredExpiry(Duration timeToLive, int jitterPercent, DoubleSupplier random) {
+        if (jitterPercent < 0 || jitterPercent > 100) {
+            throw new IllegalArgumentException("jitterPercent must be between 0 and 100: " + jitterPercent);
+        }
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.jitter = jitterPercent / 100.0;
+        this.random = random;
+    }
+
+    @Override
+    public long expireAfterCreate(@NonNull Object key, @NonNull Object value, long currentTime) {
+        return timeToLiveNanos - (long) (timeToLiveNanos * jitter * random.getAsDouble());
+    }
+
+    @Override
+    public long expireAfterUpdate(
+            @NonNull Object key, @NonNull Object value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+            @NonNull Object key, @NonNull Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -1,5 +1,6 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.deadline.DeadlineAwareRequestFactory;
 import java.time.Duration;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
@@ -7,15 +8,15 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
 /**
- * RestTemplate config with timeouts.
+ * RestTemplate config with timeouts, cut short by the request's deadline.
  */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
     public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.setConnectTimeout(Duration.ofSeconds(10))
-                .setReadTimeout(Duration.ofSeconds(30))
+        return builder.requestFactory(
+                        () -> new DeadlineAwareRequestFactory(Duration.ofSeconds(10), Duration.ofSeconds(30)))
                 .build();
     }
 }
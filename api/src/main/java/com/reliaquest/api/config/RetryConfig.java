@@ -1,8 +1,21 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.metrics.MeteredSleeper;
+import com.reliaquest.api.metrics.UpstreamMetrics;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.retry.backoff.Sleeper;
 
 @Configuration
 @EnableRetry
-public class RetryConfig {}
+public class RetryConfig {
+
+    /**
+     * The retry advice uses the single {@link Sleeper} bean, if any, for every {@code @Backoff}.
+     */
+    @Bean
+    public Sleeper retrySleeper(UpstreamMetrics upstreamMetrics) {
+        return new MeteredSleeper(upstreamMetrics);
+    }
+}
@@ -0,0 +1,132 @@
+package com.reliaquest.api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.reliaquest.api.jfr.CacheLoadEvent;
+import com.reliaquest.api.jfr.CacheMissEvent;
+import com.reliaquest.api.metrics.RequestTiming;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * Caffeine cache whose lookups count towards the current request's cache time and which reports misses and loads to
+ * Flight Recorder.
+ *
+ * <p>A hit on an entry close to expiry may be reported as a miss, so that one caller reloads it while everyone else
+ * is still served the cached value (probabilistic early expiration, "XFetch"). The closer the entry is to expiry and
+ * the longer this cache's loads take, the likelier an early reload; a beta of 0 turns it off.
+ */
+class TimedCaffeineCache extends CaffeineCache {
+
+    /**
+     * Weight of the latest load in the moving average of load times.
+     */
+    private static final double LOAD_TIME_WEIGHT = 0.2;
+
+    /**
+     * Bounds the misses waiting for their load. A load that fails never puts, so its start is dropped after this long.
+     */
+    private static final Duration PENDING_LOAD_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final int MAX_PENDING_LOADS = 1024;
+
+    private final double earlyRefreshBeta;
+    private final DoubleSupplier random;
+    private final Policy.VarExpiration<Object, Object> expiration;
+    /**
+     * Start of the first outstanding miss per key. Keyed rather than per thread, as the put may come from another
+     * thread than the miss, e.g. a Reactor thread for the v2 endpoints, or never come at all.
+     */
+    private final Cache<Object, Long> pendingLoads = Caffeine.newBuilder()
+            .expireAfterWrite(PENDING_LOAD_TIMEOUT)
+            .maximumSize(MAX_PENDING_LOADS)
+            .executor(Runnable::run)
+            .build();
+    private volatile long loadNanos;
+
+    TimedCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues, double earlyRefreshBeta) {
+        this(name, cache, allowNullValues, earlyRefreshBeta, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    TimedCaffeineCache(
+            String name,
+            Cache<Object, Object> cache,
+            boolean allowNullValues,
+            double earlyRefreshBeta,
+            DoubleSupplier random) {
+        super(name, cache, allowNullValues);
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.random = random;
+        this.expiration = cache.policy().expireVariably().orElse(null);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        CacheMissEvent miss = new CacheMissEvent();
+        miss.begin();
+        long start = System.nanoTime();
+        Object value = super.lookup(key);
+        boolean early = value != null && refreshEarly(key);
+        RequestTiming.record(RequestTiming.Phase.CACHE, start);
+        if (value != null && !early) {
+            return value;
+        }
+        pendingLoads.asMap().putIfAbsent(key, start);
+        miss.end();
+        if (miss.shouldCommit()) {
+            miss.cache = getName();
+            miss.key = String.valueOf(key);
+            miss.earlyRefresh = early;
+            miss.commit();
+        }
+        return null;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        Long loadStart = pendingLoads.asMap().remove(key);
+        if (loadStart != null) {
+            recordLoad(System.nanoTime() - loadStart);
+        }
+        CacheLoadEvent load = new CacheLoadEvent();
+        if (load.shouldCommit()) {
+            load.cache = getName();
+            load.key = String.valueOf(key);
+            load.estimatedBytes = EstimatedSizeWeigher.estimate(value);
+            load.commit();
+        }
+    }
+
+    long averageLoadNanos() {
+        return loadNanos;
+    }
+
+    void recordLoad(long nanos) {
+        long previous = loadNanos;
+        loadNanos = previous == 0 ? nanos : previous + (long) (LOAD_TIME_WEIGHT * (nanos - previous));
+    }
+
+    private boolean refreshEarly(Object key) {
+        long load = loadNanos;
+        if (earlyRefreshBeta <= 0 || expiration == null || load == 0) {
+            return false;
+        }
+        OptionalLong remaining = expiration.getExpiresAfter(key, TimeUnit.NANOSECONDS);
+        return remaining.isPresent()
+                && shouldRefreshEarly(remaining.getAsLong(), load, earlyRefreshBeta, random.getAsDouble());
+    }
+
+    /**
+     * XFetch: reload once {@code loadNanos * beta * -ln(random)} reaches the time left. The exponential draw has mean
+     * 1, so with beta 1 a reload becomes likely within about one load time of expiry.
+     */
+    static boolean shouldRefreshEarly(long remainingNanos, long loadNanos, double beta, double random) {
+        return loadNanos * beta * -Math.log(random) >= remainingNanos;
+    }
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.api.config;
+
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Non-blocking client for the v2 endpoints, with the same timeouts as the RestTemplate.
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Bean
+    public WebClient upstreamWebClient(
+            WebClient.Builder builder,
+            @Value("${employee.api.base-url:http://localhost:8112/api/v1/employee}") String baseUrl) {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) Duration.ofSeconds(10).toMillis())
+                .responseTimeout(Duration.ofSeconds(30));
+        return builder.baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
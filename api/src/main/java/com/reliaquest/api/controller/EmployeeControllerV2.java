@@ -0,0 +1,171 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.deadline.RequestDeadline;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.AsyncEmployeeService;
+import com.reliaquest.api.writequeue.WriteOperation;
+import com.reliaquest.api.writequeue.WriteQueue;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * The v1 operations as asynchronous requests: the servlet thread is released as soon as the result is returned, and
+ * the response is written when it completes, so slow or throttled upstream calls don't tie up Tomcat's thread pool.
+ *
+ * <p>Creates and deletes sent with {@code Prefer: respond-async} don't wait for the upstream at all: they are put on
+ * the {@link WriteQueue} and answered with {@code 202 Accepted} and the operation's status URL.
+ */
+@RestController
+@RequestMapping("/api/v2/employee")
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeControllerV2 {
+
+    /**
+     * Lets the service report its own deadline error before the async request times out.
+     */
+    private static final long TIMEOUT_GRACE_MILLIS = 1000;
+
+    private static final String PREFER = "Prefer";
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String OPERATIONS_PATH = "/api/v2/employee/operations/";
+
+    private final AsyncEmployeeService asyncEmployeeService;
+    private final WriteQueue writeQueue;
+
+    @GetMapping()
+    public DeferredResult<ResponseEntity<List<Employee>>> getAllEmployees() {
+        return respond(asyncEmployeeService.getAllEmployees());
+    }
+
+    @GetMapping("/search/{searchString}")
+    public DeferredResult<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        return respond(asyncEmployeeService.getEmployeesByNameSearch(searchString));
+    }
+
+    @GetMapping("/{id}")
+    public DeferredResult<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        return respond(asyncEmployeeService.getEmployeeById(id));
+    }
+
+    @GetMapping("/highestSalary")
+    public DeferredResult<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return respond(asyncEmployeeService.getHighestSalaryOfEmployees());
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public DeferredResult<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return respond(asyncEmployeeService.getTopTenHighestEarningEmployeeNames());
+    }
+
+    @PostMapping()
+    public DeferredResult<ResponseEntity<Employee>> createEmployee(
+            @Valid @RequestBody CreateEmployeeRequest employeeInput) {
+        log.info("Creating new employee: {}", employeeInput.getName());
+        return respond(asyncEmployeeService.createEmployee(employeeInput));
+    }
+
+    @DeleteMapping("/{id}")
+    public DeferredResult<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        CompletableFuture<String> deleted = asyncEmployeeService.deleteEmployeeById(id);
+        deleted.thenAccept(employeeName -> log.info("Deleted employee: {}", employeeName));
+        return respond(deleted);
+    }
+
+    /**
+     * Requests with a {@code Prefer} header land here; only those preferring {@code respond-async} are queued. Returns
+     * either the {@code 202} response or the {@link DeferredResult} of {@link #createEmployee}.
+     */
+    @PostMapping(headers = PREFER)
+    public Object queueCreateEmployee(
+            @RequestHeader(PREFER) String prefer, @Valid @RequestBody CreateEmployeeRequest employeeInput) {
+        if (!prefersRespondAsync(prefer)) {
+            return createEmployee(employeeInput);
+        }
+        WriteOperation operation = writeQueue.create(employeeInput);
+        log.info("Queued creation of employee {} as operation {}", employeeInput.getName(), operation.id());
+        return accepted(operation);
+    }
+
+    /**
+     * As {@link #queueCreateEmployee}, falling back to {@link #deleteEmployeeById}.
+     */
+    @DeleteMapping(path = "/{id}", headers = PREFER)
+    public Object queueDeleteEmployeeById(@RequestHeader(PREFER) String prefer, @PathVariable String id) {
+        if (!prefersRespondAsync(prefer)) {
+            return deleteEmployeeById(id);
+        }
+        WriteOperation operation = writeQueue.delete(id);
+        log.info("Queued deletion of employee {} as operation {}", id, operation.id());
+        return accepted(operation);
+    }
+
+    @GetMapping("/operations/{operationId}")
+    public ResponseEntity<WriteOperation> getOperation(@PathVariable String operationId) {
+        return ResponseEntity.of(writeQueue.find(operationId));
+    }
+
+    private static ResponseEntity<WriteOperation> accepted(WriteOperation operation) {
+        return ResponseEntity.accepted()
+                .location(URI.create(OPERATIONS_PATH + operation.id()))
+                .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                .body(operation);
+    }
+
+    /**
+     * Whether one of the comma-separated preferences (RFC 7240) is {@code respond-async}, ignoring case and any value
+     * or parameters, as in {@code Respond-Async, wait=10}. Several {@code Prefer} headers arrive joined by commas.
+     */
+    static boolean prefersRespondAsync(String prefer) {
+        for (String preference : prefer.split(",")) {
+            String name = preference.split("[=;]", 2)[0];
+            if (name.trim().equalsIgnoreCase(RESPOND_ASYNC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Times the async request out at the request's deadline and cancels the upstream work when the request times out
+     * or the connection fails, so nothing keeps retrying for a caller that is gone.
+     */
+    private static <T> DeferredResult<ResponseEntity<T>> respond(CompletableFuture<T> result) {
+        RequestDeadline deadline = RequestDeadline.current();
+        DeferredResult<ResponseEntity<T>> response = deadline == null
+                ? new DeferredResult<>()
+                : new DeferredResult<>(deadline.remaining().toMillis() + TIMEOUT_GRACE_MILLIS);
+        response.onTimeout(() -> {
+            result.cancel(true);
+            response.setErrorResult(new DeadlineExceededException("Deadline exceeded"));
+        });
+        response.onError(error -> result.cancel(true));
+        result.whenComplete((value, error) -> {
+            if (error == null) {
+                response.setResult(ResponseEntity.ok(value));
+            } else {
+                response.setErrorResult(
+                        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            }
+        });
+        return response;
+    }
+}
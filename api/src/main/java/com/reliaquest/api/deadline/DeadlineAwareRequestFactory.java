@@ -0,0 +1,30 @@
+package com.reliaquest.api.deadline;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+/**
+ * Request factory whose connect and read timeouts shrink to whatever is left of the current request's deadline, so
+ * an attempt started late in the budget cannot run past it.
+ */
+public class DeadlineAwareRequestFactory extends SimpleClientHttpRequestFactory {
+
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+
+    public DeadlineAwareRequestFactory(Duration connectTimeout, Duration readTimeout) {
+        this.connectTimeoutMillis = (int) connectTimeout.toMillis();
+        this.readTimeoutMillis = (int) readTimeout.toMillis();
+        setConnectTimeout(connectTimeoutMillis);
+        setReadTimeout(readTimeoutMillis);
+    }
+
+    @Override
+    protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+        super.prepareConnection(connection, httpMethod);
+        connection.setConnectTimeout(RequestDeadline.capMillis(connectTimeoutMillis));
+        connection.setReadTimeout(RequestDeadline.capMillis(readTimeoutMillis));
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.deadline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Gives every request a {@link RequestDeadline}: the caller's {@value #REQUEST_TIMEOUT} header in milliseconds if
+ * present, else the configured default, capped at the configured maximum either way.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_TIMEOUT = "X-Request-Timeout";
+
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+
+    public DeadlineFilter(
+            @Value("${employee.deadline.default-timeout:60s}") Duration defaultTimeout,
+            @Value("${employee.deadline.max-timeout:3m}") Duration maxTimeout) {
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestDeadline.begin(timeoutOf(request.getHeader(REQUEST_TIMEOUT)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.end();
+        }
+    }
+
+    Duration timeoutOf(String header) {
+        Duration timeout = defaultTimeout;
+        if (header != null) {
+            try {
+                timeout = Duration.ofMillis(Long.parseLong(header.trim()));
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring malformed {} header: {}", REQUEST_TIMEOUT, header);
+            }
+        }
+        if (timeout.isNegative()) {
+            return Duration.ZERO;
+        }
+        return timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout;
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.deadline;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import java.time.Duration;
+
+/**
+ * The point in time by which the current request must be answered. Set by {@link DeadlineFilter} on the request
+ * thread and consulted before every upstream attempt and backoff, so retries stop once the caller has stopped
+ * waiting. Outside a request there is no deadline and nothing is bounded.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private RequestDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static RequestDeadline after(Duration timeout) {
+        return new RequestDeadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static RequestDeadline begin(Duration timeout) {
+        RequestDeadline deadline = after(timeout);
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    /**
+     * Carries a request's deadline over to a thread working on its behalf; clear it with {@link #end()}.
+     */
+    public static void set(RequestDeadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the current request's deadline, or {@code null} outside of a request.
+     */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Fails fast if the current request's deadline has passed; a no-op outside a request.
+     */
+    public static void check(String operation) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline != null && deadline.expired()) {
+            throw new DeadlineExceededException("Deadline exceeded before " + operation);
+        }
+    }
+
+    /**
+     * Caps a timeout to the current request's remaining time, but never below one millisecond, since 0 means no
+     * timeout to {@link java.net.HttpURLConnection}.
+     */
+    public static int capMillis(int timeoutMillis) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return timeoutMillis;
+        }
+        return (int) Math.max(1, Math.min(timeoutMillis, deadline.remaining().toMillis()));
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    public boolean expired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+}
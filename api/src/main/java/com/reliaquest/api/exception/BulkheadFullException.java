@@ -0,0 +1,11 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Exception thrown when a bulkhead has no thread or queue slot left for a call, or dropped it for a newer one.
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Exception thrown when a request's time budget runs out before the upstream answered.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
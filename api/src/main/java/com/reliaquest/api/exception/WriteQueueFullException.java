@@ -0,0 +1,11 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Exception thrown when an asynchronous write cannot be accepted because too many are still waiting to be applied.
+ */
+public class WriteQueueFullException extends RuntimeException {
+
+    public WriteQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.api.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Encodes changes as JSON, tagged with the publishing instance so that it can skip its own messages.
+ */
+@Slf4j
+abstract class AbstractInvalidationBus implements InvalidationBus {
+
+    private final ObjectMapper objectMapper;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final List<Consumer<CacheChange>> listeners = new CopyOnWriteArrayList<>();
+
+    AbstractInvalidationBus(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(CacheChange change) {
+        try {
+            send(objectMapper.writeValueAsBytes(new Message(instanceId, change)));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not publish {} of employee {}: {}", change.type(), change.id(), e.toString());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheChange> listener) {
+        listeners.add(listener);
+    }
+
+    String instanceId() {
+        return instanceId;
+    }
+
+    abstract void send(byte[] message) throws IOException;
+
+    /**
+     * Called by the transport for every message it receives, including this instance's own.
+     */
+    void receive(byte[] bytes) {
+        Message message;
+        try {
+            message = objectMapper.readValue(bytes, Message.class);
+        } catch (IOException e) {
+            log.warn("Ignoring malformed cache change: {}", e.toString());
+            return;
+        }
+        if (instanceId.equals(message.origin())) {
+            return;
+        }
+        for (Consumer<CacheChange> listener : listeners) {
+            try {
+                listener.accept(message.change());
+            } catch (RuntimeException e) {
+                log.warn("Could not apply {} of employee {}", message.change().type(), message.change().id(), e);
+            }
+        }
+    }
+
+    record Message(String origin, CacheChange change) {}
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.invalidation;
+
+import com.reliaquest.api.model.Employee;
+
+/**
+ * A write processed by one API instance, sent to its peers so they can update their caches instead of waiting for
+ * them to expire. A created employee travels with the change; a deletion carries only the id.
+ */
+public record CacheChange(Type type, String id, Employee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    public static CacheChange created(Employee employee) {
+        return new CacheChange(Type.CREATED, employee.getId(), employee);
+    }
+
+    public static CacheChange deleted(String id) {
+        return new CacheChange(Type.DELETED, id, null);
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.api.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exchanges changes as files in a directory shared by all instances, e.g. a volume mounted into every pod. Each change
+ * is one file, named so that names sort in publication order; every instance polls the directory for names it has not
+ * seen yet and deletes files older than the retention.
+ */
+@Slf4j
+public class DirectoryInvalidationBus extends AbstractInvalidationBus {
+
+    private static final Pattern CHANGE_FILE = Pattern.compile("\\d{20}-.+\\.json");
+
+    private final Path directory;
+    private final Duration retention;
+    private final AtomicLong counter = new AtomicLong();
+    private final Set<String> seen = new HashSet<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-invalidation-directory");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DirectoryInvalidationBus(
+            ObjectMapper objectMapper, Path directory, Duration pollInterval, Duration retention) throws IOException {
+        super(objectMapper);
+        this.directory = directory;
+        this.retention = retention;
+        Files.createDirectories(directory);
+        // Changes published before this instance started are already reflected in what it loads from upstream.
+        seen.addAll(changeFiles());
+        executor.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Cache invalidation bus polling {} every {}", directory.toAbsolutePath(), pollInterval);
+    }
+
+    @Override
+    void send(byte[] message) throws IOException {
+        // Zero-padded so that names sort by time, then by instance and sequence.
+        String name = String.format(
+                "%020d-%s-%010d.json", System.currentTimeMillis(), instanceId(), counter.incrementAndGet());
+        Path temp = Files.createTempFile(directory, ".change", ".tmp");
+        try {
+            Files.write(temp, message);
+            Files.move(temp, directory.resolve(name), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    synchronized void poll() {
+        try {
+            long expiredBefore = System.currentTimeMillis() - retention.toMillis();
+            List<String> names = changeFiles();
+            seen.retainAll(names);
+            for (String name : names) {
+                if (publishedAt(name) < expiredBefore) {
+                    Files.deleteIfExists(directory.resolve(name));
+                } else if (seen.add(name)) {
+                    read(name);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not poll {} for cache changes: {}", directory, e.toString());
+        }
+    }
+
+    private void read(String name) throws IOException {
+        try {
+            receive(Files.readAllBytes(directory.resolve(name)));
+        } catch (NoSuchFileException e) {
+            // Expired and deleted by another instance.
+        }
+    }
+
+    private List<String> changeFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> CHANGE_FILE.matcher(name).matches())
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long publishedAt(String name) {
+        return Long.parseLong(name, 0, 20, 10);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
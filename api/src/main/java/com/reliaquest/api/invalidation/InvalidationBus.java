@@ -0,0 +1,24 @@
+package com.reliaquest.api.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries cache changes between API instances. Delivery is best effort: a lost change only means a peer serves its
+ * cached data until it expires, as it would without a bus.
+ */
+public interface InvalidationBus extends AutoCloseable {
+
+    /**
+     * Sends a change to every peer. Never throws; failures are logged.
+     */
+    void publish(CacheChange change);
+
+    /**
+     * Registers a listener for changes published by other instances. Changes published by this instance are not
+     * delivered back to it.
+     */
+    void subscribe(Consumer<CacheChange> listener);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.StandardSocketOptions;
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends changes as UDP datagrams to a multicast group on the loopback interface, so every API instance on the same
+ * host receives them. Meant for running several instances locally; datagrams are never routed off the host.
+ */
+@Slf4j
+public class MulticastInvalidationBus extends AbstractInvalidationBus {
+
+    /**
+     * Comfortably above one JSON-encoded employee.
+     */
+    private static final int MAX_MESSAGE_BYTES = 8 * 1024;
+
+    private final InetSocketAddress group;
+    private final MulticastSocket socket;
+    private final Thread receiver;
+    private volatile boolean closed;
+
+    public MulticastInvalidationBus(ObjectMapper objectMapper, InetSocketAddress group) throws IOException {
+        super(objectMapper);
+        this.group = group;
+        NetworkInterface loopback = NetworkInterface.getByInetAddress(InetAddress.getLoopbackAddress());
+        this.socket = new MulticastSocket(group.getPort());
+        socket.setNetworkInterface(loopback);
+        socket.setTimeToLive(0);
+        socket.setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+        socket.joinGroup(group, loopback);
+        this.receiver = new Thread(this::receiveLoop, "cache-invalidation-multicast");
+        receiver.setDaemon(true);
+        receiver.start();
+        log.info("Cache invalidation bus joined multicast group {} on {}", group, loopback.getName());
+    }
+
+    @Override
+    void send(byte[] message) throws IOException {
+        if (message.length > MAX_MESSAGE_BYTES) {
+            throw new IOException("Message of " + message.length + " bytes exceeds " + MAX_MESSAGE_BYTES);
+        }
+        socket.send(new DatagramPacket(message, message.length, group));
+    }
+
+    private void receiveLoop() {
+        byte[] buffer = new byte[MAX_MESSAGE_BYTES];
+        while (!closed) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+            } catch (SocketException e) {
+                if (!closed) {
+                    log.warn("Cache invalidation receiver stopped: {}", e.toString());
+                }
+                return;
+            } catch (IOException e) {
+                log.warn("Could not receive cache change: {}", e.toString());
+                continue;
+            }
+            receive(Arrays.copyOfRange(packet.getData(), packet.getOffset(), packet.getOffset() + packet.getLength()));
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        socket.close();
+    }
+}
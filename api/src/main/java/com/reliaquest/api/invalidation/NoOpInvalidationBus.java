@@ -0,0 +1,18 @@
+package com.reliaquest.api.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * For a single instance, or when peers should rely on expiry alone.
+ */
+public class NoOpInvalidationBus implements InvalidationBus {
+
+    @Override
+    public void publish(CacheChange change) {}
+
+    @Override
+    public void subscribe(Consumer<CacheChange> listener) {}
+
+    @Override
+    public void close() {}
+}
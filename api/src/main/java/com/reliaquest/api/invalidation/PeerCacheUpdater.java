@@ -0,0 +1,88 @@
+package com.reliaquest.api.invalidation;
+
+import com.reliaquest.api.config.CacheConfig;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.OffHeapRoster;
+import com.reliaquest.api.service.CachedEmployeeService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies writes made through other API instances to this instance's caches. The cached roster is patched with the
+ * delta rather than dropped, so peers do not all reload it from upstream after every write; results derived from the
+ * roster are dropped, since they are recomputed from it without an upstream call.
+ */
+@Slf4j
+@Component
+public class PeerCacheUpdater {
+
+    private final CacheManager cacheManager;
+
+    public PeerCacheUpdater(CacheManager cacheManager, InvalidationBus invalidationBus) {
+        this.cacheManager = cacheManager;
+        invalidationBus.subscribe(this::apply);
+    }
+
+    void apply(CacheChange change) {
+        log.debug("Applying peer {} of employee {}", change.type(), change.id());
+        Cache byId = cache(CacheConfig.EMPLOYEE_BY_ID_CACHE);
+        switch (change.type()) {
+            case CREATED -> {
+                patchRoster(roster -> {
+                    if (roster.stream().anyMatch(employee -> Objects.equals(employee.getId(), change.id()))) {
+                        return roster;
+                    }
+                    List<Employee> updated = new ArrayList<>(roster.size() + 1);
+                    updated.addAll(roster);
+                    updated.add(change.employee());
+                    return updated;
+                });
+                byId.put(change.id(), change.employee());
+                cache(CacheConfig.EMPLOYEE_NOT_FOUND_CACHE).evict(change.id());
+            }
+            case DELETED -> {
+                patchRoster(roster -> {
+                    List<Employee> updated = new ArrayList<>(roster.size());
+                    for (Employee employee : roster) {
+                        if (!Objects.equals(employee.getId(), change.id())) {
+                            updated.add(employee);
+                        }
+                    }
+                    return updated.size() == roster.size() ? roster : updated;
+                });
+                byId.evict(change.id());
+            }
+        }
+        cache(CacheConfig.EMPLOYEE_SEARCH_CACHE).clear();
+        cache(CacheConfig.SALARY_CALCULATIONS_CACHE).clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void patchRoster(UnaryOperator<List<Employee>> patch) {
+        Cache roster = cache(CacheConfig.ALL_EMPLOYEES_CACHE);
+        Cache.ValueWrapper cached = roster.get(CachedEmployeeService.ALL_EMPLOYEES_KEY);
+        if (cached == null || !(cached.get() instanceof List<?> employees)) {
+            // Nothing cached, or due for an early refresh: the next read loads it from upstream anyway.
+            roster.evict(CachedEmployeeService.ALL_EMPLOYEES_KEY);
+            return;
+        }
+        List<Employee> current = (List<Employee>) employees;
+        List<Employee> updated = patch.apply(current);
+        if (updated != current) {
+            // Keep an off-heap roster off heap; the materialized copy is short-lived.
+            roster.put(
+                    CachedEmployeeService.ALL_EMPLOYEES_KEY,
+                    current instanceof OffHeapRoster ? OffHeapRoster.copyOf(updated) : updated);
+        }
+    }
+
+    private Cache cache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), name);
+    }
+}
@@ -0,0 +1,27 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.CacheLoad")
+@Label("Cache Load")
+@Description("Value stored in a cache after a miss")
+@Category({"Employee API", "Cache"})
+@StackTrace(false)
+public class CacheLoadEvent extends Event {
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Estimated Size")
+    @DataAmount
+    public long estimatedBytes;
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.CacheMiss")
+@Label("Cache Miss")
+@Description("Cache lookup that found no entry, or chose to reload an entry close to expiry")
+@Category({"Employee API", "Cache"})
+@StackTrace(false)
+public class CacheMissEvent extends Event {
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Early Refresh")
+    public boolean earlyRefresh;
+}
@@ -0,0 +1,27 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.reliaquest.api.RetryBackoff")
+@Label("Retry Backoff")
+@Description("Sleep between two attempts of a @Retryable operation")
+@Category({"Employee API", "Upstream"})
+@StackTrace(false)
+public class RetryBackoffEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Next Attempt")
+    public int nextAttempt;
+
+    @Label("Backoff Period")
+    @Timespan(Timespan.MILLISECONDS)
+    public long backOffPeriod;
+}
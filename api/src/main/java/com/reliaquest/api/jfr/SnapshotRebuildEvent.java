@@ -0,0 +1,22 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.SnapshotRebuild")
+@Label("Roster Snapshot Rebuild")
+@Description("Full roster fetched and decoded, replacing the previous snapshot")
+@Category({"Employee API", "Roster"})
+@StackTrace(false)
+public class SnapshotRebuildEvent extends Event {
+
+    @Label("Source")
+    public String source;
+
+    @Label("Employees")
+    public int employees;
+}
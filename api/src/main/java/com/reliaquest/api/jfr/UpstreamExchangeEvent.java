@@ -0,0 +1,41 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.UpstreamExchange")
+@Label("Upstream Exchange")
+@Description("HTTP exchange with the mock employee API")
+@Category({"Employee API", "Upstream"})
+@StackTrace(false)
+public class UpstreamExchangeEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Method")
+    public String method;
+
+    @Label("URL Template")
+    public String urlTemplate;
+
+    @Label("Status")
+    @Description("HTTP status code, or 0 when no response was received")
+    public int status;
+
+    @Label("Response Bytes")
+    @Description("Content-Length of the response, or -1 when unknown")
+    @DataAmount
+    public long responseBytes;
+
+    @Label("Attempt")
+    public int attempt;
+
+    @Label("Error")
+    public String error;
+}
@@ -0,0 +1,43 @@
+package com.reliaquest.api.metrics;
+
+import com.reliaquest.api.deadline.RequestDeadline;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.jfr.RetryBackoffEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.retry.backoff.Sleeper;
+
+/**
+ * Backoff sleeper that records each pause against the retrying operation before sleeping. A pause that would outlast
+ * the request's deadline is not taken: the retry is abandoned instead.
+ */
+@RequiredArgsConstructor
+public class MeteredSleeper implements Sleeper {
+
+    private final UpstreamMetrics upstreamMetrics;
+
+    @Override
+    public void sleep(long backOffPeriod) throws InterruptedException {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline != null && deadline.remaining().toMillis() <= backOffPeriod) {
+            // The next attempt would start after the caller stopped waiting; give up now instead of sleeping.
+            throw new DeadlineExceededException(
+                    "Deadline exceeded while retrying " + UpstreamMetrics.currentOperation());
+        }
+        upstreamMetrics.recordBackoff(UpstreamMetrics.currentOperation(), backOffPeriod);
+        RetryBackoffEvent event = new RetryBackoffEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            Thread.sleep(backOffPeriod);
+        } finally {
+            RequestTiming.record(RequestTiming.Phase.BACKOFF, start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = UpstreamMetrics.currentOperation();
+                event.nextAttempt = UpstreamMetrics.currentAttempt();
+                event.backOffPeriod = backOffPeriod;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.reliaquest.api.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request breakdown of where time went, accumulated on the request thread by the cache, service and retry layers.
+ * Each thread reuses one instance, so recording a phase costs two {@code nanoTime} calls and no allocation. Outside
+ * a request, recording is a no-op.
+ */
+public final class RequestTiming {
+
+    public enum Phase {
+        CACHE("cache"),
+        UPSTREAM("upstream"),
+        BACKOFF("backoff"),
+        SEARCH("search"),
+        /**
+         * Waiting for a bulkhead thread or for the bulkhead's share of the upstream rate budget.
+         */
+        QUEUE("queue");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<RequestTiming> CURRENT = ThreadLocal.withInitial(RequestTiming::new);
+
+    private final long[] nanos = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private final StringBuilder header = new StringBuilder(128);
+    private boolean active;
+    private long startNanos;
+    private long encodeStartNanos;
+
+    private RequestTiming() {}
+
+    public static RequestTiming begin() {
+        RequestTiming timing = CURRENT.get();
+        Arrays.fill(timing.nanos, 0);
+        Arrays.fill(timing.counts, 0);
+        timing.encodeStartNanos = 0;
+        timing.startNanos = System.nanoTime();
+        timing.active = true;
+        return timing;
+    }
+
+    public static void end() {
+        CURRENT.get().active = false;
+    }
+
+    /**
+     * Adds the time since {@code startNanos}, taken from {@link System#nanoTime()}, to the given phase.
+     */
+    public static void record(Phase phase, long startNanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing.active) {
+            timing.nanos[phase.ordinal()] += System.nanoTime() - startNanos;
+            timing.counts[phase.ordinal()]++;
+        }
+    }
+
+    public static void markEncodeStart() {
+        RequestTiming timing = CURRENT.get();
+        if (timing.active && timing.encodeStartNanos == 0) {
+            timing.encodeStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Returns the current request's timing, or {@code null} outside of a request.
+     */
+    public static RequestTiming current() {
+        RequestTiming timing = CURRENT.get();
+        return timing.active ? timing : null;
+    }
+
+    /**
+     * Copies the phases recorded so far, so work done on another thread on behalf of a request can be added to the
+     * request's timing with {@link #add(Snapshot)}.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(nanos.clone(), counts.clone());
+    }
+
+    public static void add(Snapshot snapshot) {
+        RequestTiming timing = CURRENT.get();
+        if (timing.active) {
+            for (int i = 0; i < PHASES.length; i++) {
+                timing.nanos[i] += snapshot.nanos()[i];
+                timing.counts[i] += snapshot.counts()[i];
+            }
+        }
+    }
+
+    public long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public int count(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Time spent writing the response body so far; zero until the body starts being written.
+     */
+    public long encodeNanos() {
+        return encodeStartNanos == 0 ? 0 : System.nanoTime() - encodeStartNanos;
+    }
+
+    /**
+     * Renders the recorded phases plus the elapsed total as a {@code Server-Timing} header value, e.g.
+     * {@code cache;dur=0.012, upstream;desc="2";dur=45.310, app;dur=46.002}. The description carries the call count.
+     */
+    public String toServerTiming() {
+        header.setLength(0);
+        for (Phase phase : PHASES) {
+            int count = counts[phase.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            header.append(phase.metricName());
+            if (count > 1) {
+                header.append(";desc=\"").append(count).append('"');
+            }
+            appendDuration(header, nanos[phase.ordinal()]).append(", ");
+        }
+        return appendDuration(header.append("app"), elapsedNanos()).toString();
+    }
+
+    /**
+     * Phase times and counts, indexed by {@link Phase#ordinal()}.
+     */
+    public record Snapshot(long[] nanos, int[] counts) {}
+
+    private static StringBuilder appendDuration(StringBuilder builder, long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        long fraction = micros % 1000;
+        builder.append(";dur=").append(micros / 1000).append('.');
+        if (fraction < 100) {
+            builder.append('0');
+        }
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        return builder.append(fraction);
+    }
+}
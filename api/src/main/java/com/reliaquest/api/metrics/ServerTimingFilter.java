@@ -0,0 +1,111 @@
+package com.reliaquest.api.metrics;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Opens a {@link RequestTiming} for every request and logs a structured breakdown of requests slower than the
+ * threshold. The {@code Server-Timing} header itself is written by {@link ServerTimingAdvice}, just before the body.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private final long slowRequestNanos;
+
+    public ServerTimingFilter(@Value("${employee.timing.slow-request-threshold:1s}") Duration slowRequestThreshold) {
+        this.slowRequestNanos = slowRequestThreshold.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = timing.elapsedNanos();
+            if (request.isAsyncStarted()) {
+                watchAsyncRequest(request, response, System.nanoTime() - elapsed);
+            } else {
+                // Responses without a body never reach the advice.
+                if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+                    response.setHeader(SERVER_TIMING, timing.toServerTiming());
+                }
+                if (elapsed >= slowRequestNanos) {
+                    logSlowRequest(request, response, timing, elapsed);
+                }
+            }
+            RequestTiming.end();
+        }
+    }
+
+    /**
+     * An async request completes on another thread, which has none of this thread's phases, so it gets no
+     * {@code Server-Timing} header and its slow-request line only has the total.
+     */
+    private void watchAsyncRequest(HttpServletRequest request, HttpServletResponse response, long startNanos) {
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                long elapsed = System.nanoTime() - startNanos;
+                if (elapsed >= slowRequestNanos) {
+                    log.warn(
+                            "slow_request method={} uri={} status={} total_ms={} async=true",
+                            request.getMethod(),
+                            request.getRequestURI(),
+                            response.getStatus(),
+                            millis(elapsed));
+                }
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {}
+
+            @Override
+            public void onError(AsyncEvent event) {}
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {}
+        });
+    }
+
+    private static void logSlowRequest(
+            HttpServletRequest request, HttpServletResponse response, RequestTiming timing, long elapsed) {
+        log.warn(
+                "slow_request method={} uri={} status={} total_ms={} cache_ms={} upstream_ms={} upstream_calls={} "
+                        + "backoff_ms={} retries={} queue_ms={} search_ms={} encode_ms={}",
+                request.getMethod(),
+                request.getRequestURI(),
+                response.getStatus(),
+                millis(elapsed),
+                millis(timing.nanos(RequestTiming.Phase.CACHE)),
+                millis(timing.nanos(RequestTiming.Phase.UPSTREAM)),
+                timing.count(RequestTiming.Phase.UPSTREAM),
+                millis(timing.nanos(RequestTiming.Phase.BACKOFF)),
+                timing.count(RequestTiming.Phase.BACKOFF),
+                millis(timing.nanos(RequestTiming.Phase.QUEUE)),
+                millis(timing.nanos(RequestTiming.Phase.SEARCH)),
+                millis(timing.encodeNanos()));
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.support.RetrySynchronizationManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters for calls to the mock employee API, the retries around them and the time spent backing off.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamMetrics {
+
+    public static final String REQUESTS = "employee.upstream.requests";
+    public static final String ATTEMPT_FAILURES = "employee.upstream.attempt.failures";
+    public static final String ATTEMPTS = "employee.upstream.attempts";
+    public static final String BACKOFF = "employee.upstream.backoff";
+
+    static final String UNKNOWN_OPERATION = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Records a single HTTP exchange, tagged with the retry attempt it belongs to.
+     */
+    public void recordExchange(Timer.Sample sample, String operation, HttpStatusCode status) {
+        recordExchange(sample, operation, String.valueOf(status.value()));
+    }
+
+    public void recordExchange(Timer.Sample sample, String operation, Throwable error) {
+        recordExchange(sample, operation, error.getClass().getSimpleName());
+    }
+
+    private void recordExchange(Timer.Sample sample, String operation, String status) {
+        sample.stop(Timer.builder(REQUESTS)
+                .description("HTTP exchanges with the mock employee API")
+                .tag("operation", operation)
+                .tag("status", status)
+                .tag("attempt", String.valueOf(currentAttempt()))
+                .register(meterRegistry));
+    }
+
+    public void recordAttemptFailure(String operation, Throwable error) {
+        Counter.builder(ATTEMPT_FAILURES)
+                .description("Failed attempts of a @Retryable upstream operation")
+                .tag("operation", operation)
+                .tag("exception", error.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Records how many attempts an operation took once retrying is over, whatever the outcome.
+     */
+    public void recordAttempts(String operation, int attempts, boolean success) {
+        DistributionSummary.builder(ATTEMPTS)
+                .description("Attempts per @Retryable upstream operation")
+                .tag("operation", operation)
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(attempts);
+    }
+
+    public void recordBackoff(String operation, long backOffPeriod) {
+        Timer.builder(BACKOFF)
+                .description("Time spent sleeping between retry attempts")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(backOffPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * One-based attempt number of the retry in progress on this thread; 1 outside of any retry.
+     */
+    public static int currentAttempt() {
+        RetryContext context = RetrySynchronizationManager.getContext();
+        return context == null ? 1 : context.getRetryCount() + 1;
+    }
+
+    public static String currentOperation() {
+        return operationOf(RetrySynchronizationManager.getContext());
+    }
+
+    /**
+     * Annotation-driven retries label their context with the method signature; keep just the method name.
+     */
+    public static String operationOf(RetryContext context) {
+        Object name = context == null ? null : context.getAttribute(RetryContext.NAME);
+        if (name == null) {
+            return UNKNOWN_OPERATION;
+        }
+        String label = name.toString();
+        int parameters = label.indexOf('(');
+        String qualified = parameters < 0 ? label : label.substring(0, parameters);
+        return qualified.substring(qualified.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.api.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Picked up by every {@code @Retryable} method as a global listener bean.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamRetryListener implements RetryListener {
+
+    private final UpstreamMetrics upstreamMetrics;
+
+    @Override
+    public <T, E extends Throwable> void onError(
+            RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        upstreamMetrics.recordAttemptFailure(UpstreamMetrics.operationOf(context), throwable);
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        boolean success = throwable == null;
+        // A failed attempt has already bumped the retry count, a successful one has not.
+        int attempts = success ? context.getRetryCount() + 1 : context.getRetryCount();
+        upstreamMetrics.recordAttempts(UpstreamMetrics.operationOf(context), Math.max(attempts, 1), success);
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import java.io.IOException;
+
+/**
+ * Deserializes a string through a {@link StringDictionary} that lives as long as one decode, so every employee of a
+ * decoded roster shares the instances of repeated values while nothing outlives the roster.
+ */
+public class DictionaryStringDeserializer extends StdDeserializer<String> {
+
+    /**
+     * Well above the number of distinct job titles a roster carries.
+     */
+    static final int MAX_ENTRIES = 4096;
+
+    public DictionaryStringDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        String value = StringDeserializer.instance.deserialize(parser, context);
+        // Attributes set on the context are per call: one dictionary per decoded response.
+        StringDictionary dictionary = (StringDictionary) context.getAttribute(StringDictionary.class);
+        if (dictionary == null) {
+            dictionary = new StringDictionary(MAX_ENTRIES);
+            context.setAttribute(StringDictionary.class, dictionary);
+        }
+        return dictionary.canonical(value);
+    }
+}
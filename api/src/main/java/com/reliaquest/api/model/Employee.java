@@ -1,6 +1,8 @@
 package com.reliaquest.api.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -8,6 +10,9 @@ import lombok.NoArgsConstructor;
 
 /**
  * Employee data model - matches the API response format.
+ *
+ * <p>Rosters hold many employees with the same title and email domain, so decoded titles share one instance per roster
+ * and the email is kept as its local part plus a domain shared by every employee.
  */
 @Data
 @NoArgsConstructor
@@ -15,6 +20,8 @@ import lombok.NoArgsConstructor;
 @Builder
 public class Employee {
 
+    private static final StringDictionary EMAIL_DOMAINS = new StringDictionary(64);
+
     private String id;
 
     @JsonProperty("employee_name")
@@ -27,8 +34,51 @@ public class Employee {
     private Integer employeeAge;
 
     @JsonProperty("employee_title")
+    @JsonDeserialize(using = DictionaryStringDeserializer.class)
     private String employeeTitle;
 
+    /**
+     * Everything before the last {@code @}, or the whole address if it has none.
+     */
+    @JsonIgnore
+    private String emailLocalPart;
+
+    /**
+     * The last {@code @} and what follows it, shared between employees.
+     */
+    @JsonIgnore
+    private String emailDomain;
+
+    @JsonProperty("employee_email")
+    public String getEmployeeEmail() {
+        if (emailLocalPart == null || emailDomain == null) {
+            return emailLocalPart;
+        }
+        return emailLocalPart.concat(emailDomain);
+    }
+
     @JsonProperty("employee_email")
-    private String employeeEmail;
+    public void setEmployeeEmail(String email) {
+        this.emailLocalPart = localPart(email);
+        this.emailDomain = domain(email);
+    }
+
+    private static String localPart(String email) {
+        int at = email == null ? -1 : email.lastIndexOf('@');
+        return at < 0 ? email : email.substring(0, at);
+    }
+
+    private static String domain(String email) {
+        int at = email == null ? -1 : email.lastIndexOf('@');
+        return at < 0 ? null : EMAIL_DOMAINS.canonical(email.substring(at));
+    }
+
+    public static class EmployeeBuilder {
+
+        public EmployeeBuilder employeeEmail(String email) {
+            this.emailLocalPart = localPart(email);
+            this.emailDomain = domain(email);
+            return this;
+        }
+    }
 }
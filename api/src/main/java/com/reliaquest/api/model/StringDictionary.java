@@ -0,0 +1,37 @@
+package com.reliaquest.api.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out one shared instance per distinct string, for values drawn from a small vocabulary. Bounded: once full,
+ * new values are returned as they are instead of being added.
+ */
+public final class StringDictionary {
+
+    private final int maxEntries;
+    private final Map<String, String> entries = new ConcurrentHashMap<>();
+
+    public StringDictionary(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public String canonical(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = entries.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (entries.size() >= maxEntries) {
+            return value;
+        }
+        existing = entries.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
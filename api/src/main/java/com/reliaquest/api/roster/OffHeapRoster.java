@@ -0,0 +1,305 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable roster kept in direct buffers instead of as employee objects, so a cached roster of a million rows adds a
+ * few objects to the heap rather than millions. It is a read-only {@link List} whose elements are materialized on
+ * access; the query methods read the buffers in place and only materialize the employees they return.
+ *
+ * <p>Layout: one fixed-size row of ints per employee (offset and length of each string, salary, age, null flags), the
+ * strings' UTF-16 chars back to back, and an open-addressing hash index from id to row. Every read uses absolute
+ * buffer access, so concurrent readers need no locking. The direct memory is released when the roster is collected.
+ */
+public final class OffHeapRoster extends AbstractList<Employee> implements RandomAccess {
+
+    private static final int ID = 0;
+    private static final int NAME = 2;
+    private static final int TITLE = 4;
+    private static final int EMAIL = 6;
+    private static final int SALARY = 8;
+    private static final int AGE = 9;
+    private static final int FLAGS = 10;
+    private static final int ROW_INTS = 11;
+
+    private static final int NULL_LENGTH = -1;
+    private static final int SALARY_NULL = 1;
+    private static final int AGE_NULL = 2;
+
+    private final int size;
+    private final IntBuffer rows;
+    private final CharBuffer chars;
+    private final IntBuffer index;
+    private final int indexMask;
+
+    private OffHeapRoster(int size, IntBuffer rows, CharBuffer chars, IntBuffer index) {
+        this.size = size;
+        this.rows = rows;
+        this.chars = chars;
+        this.index = index;
+        this.indexMask = index.capacity() - 1;
+    }
+
+    public static OffHeapRoster copyOf(Collection<Employee> employees) {
+        int size = employees.size();
+        long charCount = 0;
+        for (Employee employee : employees) {
+            charCount += length(employee.getId())
+                    + length(employee.getEmployeeName())
+                    + length(employee.getEmployeeTitle())
+                    + length(employee.getEmployeeEmail());
+        }
+        if (charCount > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Roster too large for an off-heap copy: " + charCount + " chars");
+        }
+
+        IntBuffer rows = allocate(Math.multiplyExact(size, ROW_INTS * Integer.BYTES)).asIntBuffer();
+        CharBuffer chars = allocate((int) charCount * Character.BYTES).asCharBuffer();
+        // At most half full, so probe sequences stay short.
+        int indexSlots = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) * 2;
+        IntBuffer index = allocate(indexSlots * Integer.BYTES).asIntBuffer();
+        int indexMask = index.capacity() - 1;
+
+        int row = 0;
+        int charOffset = 0;
+        for (Employee employee : employees) {
+            int base = row * ROW_INTS;
+            charOffset = putString(rows, base + ID, chars, charOffset, employee.getId());
+            charOffset = putString(rows, base + NAME, chars, charOffset, employee.getEmployeeName());
+            charOffset = putString(rows, base + TITLE, chars, charOffset, employee.getEmployeeTitle());
+            charOffset = putString(rows, base + EMAIL, chars, charOffset, employee.getEmployeeEmail());
+            int flags = 0;
+            if (employee.getEmployeeSalary() == null) {
+                flags |= SALARY_NULL;
+            } else {
+                rows.put(base + SALARY, employee.getEmployeeSalary());
+            }
+            if (employee.getEmployeeAge() == null) {
+                flags |= AGE_NULL;
+            } else {
+                rows.put(base + AGE, employee.getEmployeeAge());
+            }
+            rows.put(base + FLAGS, flags);
+            if (employee.getId() != null) {
+                // Slots hold row + 1, so 0 marks an empty slot. On duplicate ids the first row wins, as in a scan.
+                int slot = mix(employee.getId().hashCode()) & indexMask;
+                while (index.get(slot) != 0) {
+                    slot = (slot + 1) & indexMask;
+                }
+                index.put(slot, row + 1);
+            }
+            row++;
+        }
+        return new OffHeapRoster(size, rows, chars, index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Employee get(int row) {
+        checkRow(row);
+        int base = row * ROW_INTS;
+        int flags = rows.get(base + FLAGS);
+        return Employee.builder()
+                .id(string(base + ID))
+                .employeeName(string(base + NAME))
+                .employeeSalary((flags & SALARY_NULL) != 0 ? null : rows.get(base + SALARY))
+                .employeeAge((flags & AGE_NULL) != 0 ? null : rows.get(base + AGE))
+                .employeeTitle(string(base + TITLE))
+                .employeeEmail(string(base + EMAIL))
+                .build();
+    }
+
+    /**
+     * Bytes held outside the heap.
+     */
+    public long offHeapBytes() {
+        return (long) rows.capacity() * Integer.BYTES
+                + (long) chars.capacity() * Character.BYTES
+                + (long) index.capacity() * Integer.BYTES;
+    }
+
+    /**
+     * Employees whose name contains the fragment, ignoring case the way
+     * {@link String#regionMatches(boolean, int, String, int, int)} does.
+     */
+    public List<Employee> searchByName(String fragment) {
+        List<Employee> results = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (nameContainsIgnoreCase(row * ROW_INTS, fragment)) {
+                results.add(get(row));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * The highest salary, or 0 when no employee has one.
+     */
+    public int highestSalary() {
+        int highest = 0;
+        boolean found = false;
+        for (int row = 0; row < size; row++) {
+            int base = row * ROW_INTS;
+            if ((rows.get(base + FLAGS) & SALARY_NULL) == 0) {
+                int salary = rows.get(base + SALARY);
+                highest = found ? Math.max(highest, salary) : salary;
+                found = true;
+            }
+        }
+        return highest;
+    }
+
+    /**
+     * Names of the {@code limit} best-paid employees with a name and a salary, best-paid first. Ties keep roster
+     * order, matching a stable sort.
+     */
+    public List<String> topEarnerNames(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        int[] top = new int[limit];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            int base = row * ROW_INTS;
+            if ((rows.get(base + FLAGS) & SALARY_NULL) != 0 || rows.get(base + NAME + 1) == NULL_LENGTH) {
+                continue;
+            }
+            int salary = rows.get(base + SALARY);
+            if (count == limit && salary <= salaryOf(top[count - 1])) {
+                continue;
+            }
+            int position = count < limit ? count++ : count - 1;
+            while (position > 0 && salaryOf(top[position - 1]) < salary) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = row;
+        }
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(string(top[i] * ROW_INTS + NAME));
+        }
+        return names;
+    }
+
+    /**
+     * Looks the id up in the hash index; {@code null} if no employee has it.
+     */
+    public Employee findById(String id) {
+        if (id == null) {
+            return null;
+        }
+        for (int slot = mix(id.hashCode()) & indexMask; ; slot = (slot + 1) & indexMask) {
+            int entry = index.get(slot);
+            if (entry == 0) {
+                return null;
+            }
+            if (equalsAt((entry - 1) * ROW_INTS + ID, id)) {
+                return get(entry - 1);
+            }
+        }
+    }
+
+    private int salaryOf(int row) {
+        return rows.get(row * ROW_INTS + SALARY);
+    }
+
+    private boolean nameContainsIgnoreCase(int base, String fragment) {
+        int length = rows.get(base + NAME + 1);
+        if (length == NULL_LENGTH) {
+            return false;
+        }
+        int offset = rows.get(base + NAME);
+        int fragmentLength = fragment.length();
+        for (int start = offset, last = offset + length - fragmentLength; start <= last; start++) {
+            if (regionMatchesIgnoreCase(start, fragment, fragmentLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean regionMatchesIgnoreCase(int start, String fragment, int length) {
+        for (int i = 0; i < length; i++) {
+            char c1 = chars.get(start + i);
+            char c2 = fragment.charAt(i);
+            if (c1 == c2) {
+                continue;
+            }
+            char u1 = Character.toUpperCase(c1);
+            char u2 = Character.toUpperCase(c2);
+            if (u1 != u2 && Character.toLowerCase(u1) != Character.toLowerCase(u2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean equalsAt(int field, String value) {
+        int length = rows.get(field + 1);
+        if (length != value.length()) {
+            return false;
+        }
+        int offset = rows.get(field);
+        for (int i = 0; i < length; i++) {
+            if (chars.get(offset + i) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String string(int field) {
+        int length = rows.get(field + 1);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        char[] value = new char[length];
+        chars.get(rows.get(field), value, 0, length);
+        return new String(value);
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for roster of " + size);
+        }
+    }
+
+    private static int putString(IntBuffer rows, int field, CharBuffer chars, int offset, String value) {
+        if (value == null) {
+            rows.put(field, 0);
+            rows.put(field + 1, NULL_LENGTH);
+            return offset;
+        }
+        rows.put(field, offset);
+        rows.put(field + 1, value.length());
+        chars.position(offset);
+        chars.put(value);
+        return offset + value.length();
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+}
@@ -0,0 +1,366 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.bulkhead.UpstreamScheduler;
+import com.reliaquest.api.config.CacheConfig;
+import com.reliaquest.api.deadline.RequestDeadline;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.EmployeeServiceException;
+import com.reliaquest.api.invalidation.CacheChange;
+import com.reliaquest.api.invalidation.InvalidationBus;
+import com.reliaquest.api.metrics.UpstreamMetrics;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.OffHeapRoster;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+import reactor.util.retry.Retry;
+
+/**
+ * Non-blocking counterpart of {@link CachedEmployeeService} for the v2 endpoints. Upstream calls go through
+ * {@link WebClient} and retries wait on Reactor's timer, so no thread is held while a request waits for the upstream
+ * or backs off. Reads share the v1 caches, and concurrent misses for the same entry share one upstream call.
+ *
+ * <p>Every attempt takes a permit from the same {@link UpstreamScheduler} as the v1 bulkheads, as an interactive read
+ * or a write, so both versions together stay within one upstream rate.
+ */
+@Service
+@Slf4j
+public class AsyncEmployeeService {
+
+    /**
+     * Same retry budget as the {@code @Retryable} methods of {@link EmployeeService}.
+     */
+    static final int MAX_ATTEMPTS = 8;
+
+    static final Duration MAX_BACKOFF = Duration.ofSeconds(20);
+
+    private static final String SEARCH_METHOD = "getEmployeesByNameSearch";
+
+    private static final ParameterizedTypeReference<ApiResponse<List<Employee>>> EMPLOYEES =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<Employee>> EMPLOYEE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<Boolean>> DELETED =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final CacheManager cacheManager;
+    private final UpstreamMetrics upstreamMetrics;
+    private final InvalidationBus invalidationBus;
+    private final UpstreamScheduler scheduler;
+    private final boolean offHeapRoster;
+    private final Duration firstBackoff;
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AsyncEmployeeService(
+            WebClient webClient,
+            CacheManager cacheManager,
+            UpstreamMetrics upstreamMetrics,
+            InvalidationBus invalidationBus,
+            UpstreamScheduler scheduler,
+            @Value("${employee.roster.off-heap:false}") boolean offHeapRoster) {
+        this(
+                webClient,
+                cacheManager,
+                upstreamMetrics,
+                invalidationBus,
+                scheduler,
+                offHeapRoster,
+                Duration.ofSeconds(2));
+    }
+
+    AsyncEmployeeService(
+            WebClient webClient,
+            CacheManager cacheManager,
+            UpstreamMetrics upstreamMetrics,
+            InvalidationBus invalidationBus,
+            UpstreamScheduler scheduler,
+            boolean offHeapRoster,
+            Duration firstBackoff) {
+        this.webClient = webClient;
+        this.cacheManager = cacheManager;
+        this.upstreamMetrics = upstreamMetrics;
+        this.invalidationBus = invalidationBus;
+        this.scheduler = scheduler;
+        this.offHeapRoster = offHeapRoster;
+        this.firstBackoff = firstBackoff;
+    }
+
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        return withDeadline(roster());
+    }
+
+    public CompletableFuture<List<Employee>> getEmployeesByNameSearch(String searchString) {
+        return withDeadline(cached(
+                CacheConfig.EMPLOYEE_SEARCH_CACHE,
+                CacheConfig.searchKey(SEARCH_METHOD, searchString),
+                roster().map(roster -> EmployeeService.searchByName(roster, searchString))));
+    }
+
+    public CompletableFuture<Employee> getEmployeeById(String id) {
+        return withDeadline(employeeById(id));
+    }
+
+    public CompletableFuture<Integer> getHighestSalaryOfEmployees() {
+        return withDeadline(cached(
+                CacheConfig.SALARY_CALCULATIONS_CACHE,
+                "highestSalary",
+                roster().map(EmployeeService::highestSalary)));
+    }
+
+    public CompletableFuture<List<String>> getTopTenHighestEarningEmployeeNames() {
+        return withDeadline(cached(
+                CacheConfig.SALARY_CALCULATIONS_CACHE,
+                "topTenEarners",
+                roster().map(EmployeeService::topTenHighestEarningNames)));
+    }
+
+    public CompletableFuture<Employee> createEmployee(CreateEmployeeRequest request) {
+        return withDeadline(call(
+                        "createEmployee",
+                        UpstreamScheduler.Priority.WRITE,
+                        () -> webClient.post().uri("").bodyValue(request),
+                        EMPLOYEE)
+                .switchIfEmpty(Mono.error(() -> new EmployeeServiceException("Employee creation failed")))
+                .doOnNext(employee -> {
+                    log.info("Created employee: {} ({})", employee.getEmployeeName(), employee.getId());
+                    evictDerived();
+                    if (employee.getId() != null) {
+                        cache(CacheConfig.EMPLOYEE_NOT_FOUND_CACHE).evict(employee.getId());
+                        invalidationBus.publish(CacheChange.created(employee));
+                    }
+                }));
+    }
+
+    public CompletableFuture<String> deleteEmployeeById(String id) {
+        return withDeadline(employeeById(id)
+                .flatMap(employee -> deleteByName(employee.getEmployeeName()))
+                .doOnNext(name -> {
+                    evictDerived();
+                    cache(CacheConfig.EMPLOYEE_BY_ID_CACHE).evict(id);
+                    invalidationBus.publish(CacheChange.deleted(id));
+                }));
+    }
+
+    /**
+     * Bounds the caller's wait by the current request's deadline, taken on the request thread, and hands the deadline
+     * to the upstream calls through the subscriber context. Cancelling the returned future cancels the wait and any
+     * upstream call or pending retry made for this caller alone; a load shared with others runs on for them.
+     */
+    private <T> CompletableFuture<T> withDeadline(Mono<T> result) {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return result.toFuture();
+        }
+        return result.timeout(
+                        deadline.remaining(), Mono.error(() -> new DeadlineExceededException("Deadline exceeded")))
+                .contextWrite(Context.of(RequestDeadline.class, deadline))
+                .toFuture();
+    }
+
+    private Mono<List<Employee>> roster() {
+        return cached(
+                CacheConfig.ALL_EMPLOYEES_CACHE,
+                CachedEmployeeService.ALL_EMPLOYEES_KEY,
+                call(
+                                "getAllEmployees",
+                                UpstreamScheduler.Priority.INTERACTIVE,
+                                () -> webClient.get().uri(""),
+                                EMPLOYEES)
+                        .map(employees -> offHeapRoster ? OffHeapRoster.copyOf(employees) : employees)
+                        .defaultIfEmpty(Collections.emptyList()));
+    }
+
+    /**
+     * Mirrors {@link CachedEmployeeService#getEmployeeById(String)}, including the negative cache.
+     */
+    private Mono<Employee> employeeById(String id) {
+        Mono<Employee> upstream = call(
+                        "getEmployeeById",
+                        UpstreamScheduler.Priority.INTERACTIVE,
+                        () -> webClient.get().uri("/{id}", id),
+                        EMPLOYEE)
+                .onErrorMap(
+                        WebClientResponseException.NotFound.class,
+                        e -> new EmployeeNotFoundException("Employee not found: " + id))
+                .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException("Employee not found: " + id)))
+                .doOnError(
+                        EmployeeNotFoundException.class,
+                        e -> cache(CacheConfig.EMPLOYEE_NOT_FOUND_CACHE).put(id, Boolean.TRUE));
+        return Mono.defer(() -> {
+            Object roster = nativeEntries(CacheConfig.ALL_EMPLOYEES_CACHE).get(CachedEmployeeService.ALL_EMPLOYEES_KEY);
+            Employee fromRoster = roster instanceof OffHeapRoster offHeap ? offHeap.findById(id) : null;
+            if (fromRoster != null) {
+                return Mono.just(fromRoster);
+            }
+            if (cache(CacheConfig.EMPLOYEE_NOT_FOUND_CACHE).get(id) != null) {
+                return Mono.error(new EmployeeNotFoundException("Employee not found: " + id));
+            }
+            return cached(CacheConfig.EMPLOYEE_BY_ID_CACHE, id, upstream);
+        });
+    }
+
+    private Mono<String> deleteByName(String name) {
+        return call(
+                        "deleteEmployeeById",
+                        UpstreamScheduler.Priority.WRITE,
+                        () -> webClient.method(HttpMethod.DELETE).uri("").bodyValue(Map.of("name", name)),
+                        DELETED)
+                .onErrorMap(
+                        WebClientResponseException.NotFound.class,
+                        e -> new EmployeeNotFoundException("Employee not found: " + name))
+                .filter(Boolean.TRUE::equals)
+                .map(deleted -> name)
+                .switchIfEmpty(Mono.error(() -> new EmployeeServiceException("Couldn't delete " + name)));
+    }
+
+    /**
+     * Serves {@code key} from the cache, or subscribes to {@code loader} and caches its value. A miss while the same
+     * entry is already loading joins that load instead of starting another.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> cached(String cacheName, Object key, Mono<T> loader) {
+        return Mono.defer(() -> {
+            Cache cache = cache(cacheName);
+            Cache.ValueWrapper hit = cache.get(key);
+            if (hit != null) {
+                return Mono.just((T) hit.get());
+            }
+            String loadKey = cacheName + ':' + key;
+            // cache() keeps the load running when a caller goes away, so the others still get its result. The entry
+            // is only ever removed by the load that put it there: nothing else can be added under the key until then.
+            return (Mono<T>) inFlight.computeIfAbsent(loadKey, k -> loader.doOnNext(value -> cache.put(key, value))
+                    .doFinally(signal -> inFlight.remove(k))
+                    .cache());
+        });
+    }
+
+    /**
+     * One upstream operation: every attempt is timed like {@link EmployeeService}'s exchanges, and throttled or failed
+     * attempts are retried with exponential backoff and jitter. The backoff is a delay on Reactor's parallel timer,
+     * not a sleep, and is abandoned along with the attempt in flight once the deadline passes. An empty body completes
+     * empty.
+     */
+    private <T> Mono<T> call(
+            String operation,
+            UpstreamScheduler.Priority priority,
+            Supplier<WebClient.RequestHeadersSpec<?>> request,
+            ParameterizedTypeReference<ApiResponse<T>> responseType) {
+        return Mono.deferContextual(context -> {
+            RequestDeadline deadline = context.getOrDefault(RequestDeadline.class, null);
+            AtomicInteger attempts = new AtomicInteger();
+            Mono<T> attempt = Mono.defer(() -> {
+                if (deadline != null && deadline.expired()) {
+                    return Mono.error(new DeadlineExceededException("Deadline exceeded before " + operation));
+                }
+                return permit(priority, deadline, operation).then(Mono.defer(() -> {
+                    attempts.incrementAndGet();
+                    Timer.Sample sample = upstreamMetrics.start();
+                    return request.get()
+                            .retrieve()
+                            .toEntity(responseType)
+                            .doOnNext(response ->
+                                    upstreamMetrics.recordExchange(sample, operation, response.getStatusCode()))
+                            .doOnError(e -> recordFailedExchange(sample, operation, e))
+                            .mapNotNull(response -> response.getBody() != null
+                                    ? response.getBody().getData()
+                                    : null);
+                }));
+            });
+            Mono<T> result = attempt.retryWhen(Retry.backoff(MAX_ATTEMPTS - 1, firstBackoff)
+                            .maxBackoff(MAX_BACKOFF)
+                            .filter(AsyncEmployeeService::isRetryable)
+                            .doBeforeRetry(signal -> upstreamMetrics.recordAttemptFailure(operation, signal.failure()))
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                    .doOnSuccess(value -> upstreamMetrics.recordAttempts(operation, attempts.get(), true))
+                    .doOnError(e -> upstreamMetrics.recordAttempts(operation, attempts.get(), false))
+                    .onErrorMap(
+                            e -> !(e instanceof WebClientResponseException.NotFound)
+                                    && !(e instanceof DeadlineExceededException),
+                            e -> {
+                                log.error("{} failed after {} attempts: {}", operation, attempts.get(), e.getMessage());
+                                return new EmployeeServiceException("API error: " + e.getMessage(), e);
+                            });
+            if (deadline == null) {
+                return result;
+            }
+            // A load shared with other callers runs until the deadline of the request that started it at the latest.
+            return result.timeout(
+                    deadline.remaining(),
+                    Mono.error(() -> new DeadlineExceededException("Deadline exceeded during " + operation)));
+        });
+    }
+
+    /**
+     * Waits for an upstream permit on a bounded-elastic thread, as the scheduler blocks; the event loop never does.
+     * Completes at once when the rate is unlimited, and fails if no permit would come before the deadline.
+     */
+    private Mono<Void> permit(UpstreamScheduler.Priority priority, RequestDeadline deadline, String operation) {
+        if (scheduler.isUnlimited()) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> scheduler.acquire(
+                        priority, deadline == null ? Long.MAX_VALUE : deadline.remaining().toNanos()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(granted -> granted
+                        ? Mono.empty()
+                        : Mono.error(new DeadlineExceededException("No upstream permit before the deadline for "
+                                + operation)));
+    }
+
+    /**
+     * Retries what the {@code @Retryable} methods retry: server errors and 429.
+     */
+    static boolean isRetryable(Throwable error) {
+        return error instanceof WebClientResponseException response
+                && (response.getStatusCode().is5xxServerError()
+                        || response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS));
+    }
+
+    private void recordFailedExchange(Timer.Sample sample, String operation, Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            upstreamMetrics.recordExchange(sample, operation, response.getStatusCode());
+        } else {
+            upstreamMetrics.recordExchange(sample, operation, error);
+        }
+    }
+
+    private void evictDerived() {
+        cache(CacheConfig.ALL_EMPLOYEES_CACHE).clear();
+        cache(CacheConfig.SALARY_CALCULATIONS_CACHE).clear();
+        cache(CacheConfig.EMPLOYEE_SEARCH_CACHE).clear();
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private Map<Object, Object> nativeEntries(String name) {
+        return ((CaffeineCache) cache(name)).getNativeCache().asMap();
+    }
+}
@@ -1,59 +1,154 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.bulkhead.Bulkheads;
 import com.reliaquest.api.config.CacheConfig;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.invalidation.CacheChange;
+import com.reliaquest.api.invalidation.InvalidationBus;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.OffHeapRoster;
+import java.time.Duration;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.stereotype.Service;
 
 /**
- * Wrapper around EmployeeService that adds caching.
+ * Wrapper around EmployeeService that adds caching. Misses reach the upstream through the bulkhead for their kind of
+ * work, see {@link Bulkheads}.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CachedEmployeeService {
 
+    public static final String ALL_EMPLOYEES_KEY = "all";
+    private static final String SEARCH_METHOD = "getEmployeesByNameSearch";
+
     private final EmployeeService employeeService;
+    private final CacheManager cacheManager;
+    private final InvalidationBus invalidationBus;
+    private final Bulkheads bulkheads;
 
     @Cacheable(value = CacheConfig.ALL_EMPLOYEES_CACHE, key = "'all'")
     public List<Employee> getAllEmployees() {
-        return employeeService.getAllEmployees();
+        return bulkheads.read().call(employeeService::getAllEmployees);
+    }
+
+    /**
+     * Replaces the cached roster with a fresh one, e.g. after a warm start from a stale snapshot, and drops what was
+     * derived from the old one.
+     */
+    @Caching(
+            put = @CachePut(value = CacheConfig.ALL_EMPLOYEES_CACHE, key = "'all'", unless = "#result == null"),
+            evict = {
+                @CacheEvict(value = CacheConfig.SALARY_CALCULATIONS_CACHE, allEntries = true),
+                @CacheEvict(value = CacheConfig.EMPLOYEE_SEARCH_CACHE, allEntries = true)
+            })
+    public List<Employee> refreshAllEmployees() {
+        return bulkheads.refresh().call(employeeService::getAllEmployees);
+    }
+
+    /**
+     * Caches {@code roster} without an upstream call, e.g. from a snapshot at startup, along with the salary figures
+     * derived from it. Name searches are then answered from the cached roster as well.
+     */
+    public void warmFrom(List<Employee> roster) {
+        cacheManager.getCache(CacheConfig.ALL_EMPLOYEES_CACHE).put(ALL_EMPLOYEES_KEY, roster);
+        Cache salaries = cacheManager.getCache(CacheConfig.SALARY_CALCULATIONS_CACHE);
+        salaries.put("highestSalary", EmployeeService.highestSalary(roster));
+        salaries.put("topTenEarners", EmployeeService.topTenHighestEarningNames(roster));
     }
 
+    /**
+     * An off-heap roster has an id index, so an id it holds is answered from it without an upstream call. Unknown ids
+     * are remembered for a short while, so scanners and stale links don't cost an upstream call each.
+     */
     @Cacheable(value = CacheConfig.EMPLOYEE_BY_ID_CACHE, key = "#id")
     public Employee getEmployeeById(String id) {
-        return employeeService.getEmployeeById(id);
+        Employee fromRoster = findInCachedRoster(id);
+        if (fromRoster != null) {
+            return fromRoster;
+        }
+        Cache notFound = cacheManager.getCache(CacheConfig.EMPLOYEE_NOT_FOUND_CACHE);
+        if (notFound.get(id) != null) {
+            log.debug("Employee {} is known not to exist", id);
+            throw new EmployeeNotFoundException("Employee not found: " + id);
+        }
+        try {
+            return bulkheads.read().call(() -> employeeService.getEmployeeById(id));
+        } catch (EmployeeNotFoundException e) {
+            notFound.put(id, Boolean.TRUE);
+            throw e;
+        }
     }
 
-    @Cacheable(value = CacheConfig.EMPLOYEE_SEARCH_CACHE, keyGenerator = "searchKeyGenerator")
+    /**
+     * Type-ahead searches mostly refine an earlier query, and a name containing "joh" also contains "jo". So a miss
+     * first looks for a cached result of a prefix of the query and filters that, longest prefix first, then the cached
+     * roster, before asking the upstream.
+     *
+     * <p>A derived result is only as fresh as the result or roster it was filtered from, so it expires no later than
+     * that one does; chains of refinements never outlive the data they started from. That needs the expiry set after
+     * the put, which is why this method caches explicitly rather than through {@code @Cacheable}.
+     */
+    @SuppressWarnings("unchecked")
     public List<Employee> getEmployeesByNameSearch(String searchString) {
-        return employeeService.getEmployeesByNameSearch(searchString);
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.EMPLOYEE_SEARCH_CACHE);
+        String key = CacheConfig.searchKey(SEARCH_METHOD, searchString);
+        Cache.ValueWrapper hit = cache.get(key);
+        if (hit != null) {
+            return (List<Employee>) hit.get();
+        }
+        BroaderResult broader = broaderSearchResult(cache, searchString);
+        if (broader == null) {
+            List<Employee> results =
+                    bulkheads.read().call(() -> employeeService.getEmployeesByNameSearch(searchString));
+            cache.put(key, results);
+            return results;
+        }
+        List<Employee> results = EmployeeService.searchByName(broader.employees(), searchString);
+        cache.put(key, results);
+        cache.getNativeCache().policy().expireVariably().ifPresent(expiry -> expiry.getExpiresAfter(key)
+                .filter(expiresAfter -> expiresAfter.compareTo(broader.expiresAfter()) > 0)
+                .ifPresent(expiresAfter -> expiry.setExpiresAfter(key, broader.expiresAfter())));
+        return results;
     }
 
     @Cacheable(value = CacheConfig.SALARY_CALCULATIONS_CACHE, key = "'highestSalary'")
     public Integer getHighestSalaryOfEmployees() {
-        return employeeService.getHighestSalaryOfEmployees();
+        return bulkheads.read().call(employeeService::getHighestSalaryOfEmployees);
     }
 
     @Cacheable(value = CacheConfig.SALARY_CALCULATIONS_CACHE, key = "'topTenEarners'")
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        return employeeService.getTopTenHighestEarningEmployeeNames();
+        return bulkheads.read().call(employeeService::getTopTenHighestEarningEmployeeNames);
     }
 
     @Caching(
             evict = {
                 @CacheEvict(value = CacheConfig.ALL_EMPLOYEES_CACHE, allEntries = true),
                 @CacheEvict(value = CacheConfig.SALARY_CALCULATIONS_CACHE, allEntries = true),
-                @CacheEvict(value = CacheConfig.EMPLOYEE_SEARCH_CACHE, allEntries = true)
+                @CacheEvict(value = CacheConfig.EMPLOYEE_SEARCH_CACHE, allEntries = true),
+                @CacheEvict(
+                        value = CacheConfig.EMPLOYEE_NOT_FOUND_CACHE,
+                        key = "#result.id",
+                        condition = "#result?.id != null")
             })
     public Employee createEmployee(CreateEmployeeRequest request) {
-        return employeeService.createEmployee(request);
+        Employee employee = bulkheads.write().call(() -> employeeService.createEmployee(request));
+        if (employee != null && employee.getId() != null) {
+            invalidationBus.publish(CacheChange.created(employee));
+        }
+        return employee;
     }
 
     @Caching(
@@ -64,6 +159,52 @@ public class CachedEmployeeService {
                 @CacheEvict(value = CacheConfig.EMPLOYEE_SEARCH_CACHE, allEntries = true)
             })
     public String deleteEmployeeById(String id) {
-        return employeeService.deleteEmployeeById(id);
+        String name = bulkheads.write().call(() -> employeeService.deleteEmployeeById(id));
+        invalidationBus.publish(CacheChange.deleted(id));
+        return name;
+    }
+
+    /**
+     * Reads the caches directly, so probing prefixes that were never searched does not count as cache misses.
+     */
+    private BroaderResult broaderSearchResult(CaffeineCache cache, String searchString) {
+        if (searchString == null) {
+            return null;
+        }
+        for (int length = searchString.length() - 1; length > 0; length--) {
+            BroaderResult cached =
+                    cachedEntry(cache, CacheConfig.searchKey(SEARCH_METHOD, searchString.substring(0, length)));
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return cachedEntry((CaffeineCache) cacheManager.getCache(CacheConfig.ALL_EMPLOYEES_CACHE), ALL_EMPLOYEES_KEY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BroaderResult cachedEntry(CaffeineCache cache, Object key) {
+        if (!(cache.getNativeCache().asMap().get(key) instanceof List<?> employees)) {
+            return null;
+        }
+        Duration expiresAfter = cache.getNativeCache()
+                .policy()
+                .expireVariably()
+                .flatMap(expiry -> expiry.getExpiresAfter(key))
+                .orElse(Duration.ZERO);
+        return new BroaderResult((List<Employee>) employees, expiresAfter);
+    }
+
+    /**
+     * A cached search result or roster and the time it has left.
+     */
+    private record BroaderResult(List<Employee> employees, Duration expiresAfter) {}
+
+    /**
+     * Only an {@link OffHeapRoster} is consulted: it is indexed by id, while a heap roster would need a scan.
+     */
+    private Employee findInCachedRoster(String id) {
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.ALL_EMPLOYEES_CACHE);
+        Object roster = cache.getNativeCache().asMap().get(ALL_EMPLOYEES_KEY);
+        return roster instanceof OffHeapRoster offHeapRoster ? offHeapRoster.findById(id) : null;
     }
 }
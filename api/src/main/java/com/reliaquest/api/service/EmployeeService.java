@@ -1,12 +1,20 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.bulkhead.Bulkhead;
 import com.reliaquest.api.config.CacheConfig;
+import com.reliaquest.api.deadline.RequestDeadline;
+import com.reliaquest.api.exception.DeadlineExceededException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.EmployeeServiceException;
+import com.reliaquest.api.jfr.SnapshotRebuildEvent;
+import com.reliaquest.api.jfr.UpstreamExchangeEvent;
+import com.reliaquest.api.metrics.RequestTiming;
+import com.reliaquest.api.metrics.UpstreamMetrics;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
-import java.util.ArrayList;
+import com.reliaquest.api.roster.OffHeapRoster;
+import io.micrometer.core.instrument.Timer;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -27,6 +35,7 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -37,25 +46,50 @@ import org.springframework.web.client.RestTemplate;
 @Slf4j
 public class EmployeeService {
 
+    private static final String BY_ID_PATH = "/{id}";
+
     private final RestTemplate restTemplate;
+    private final UpstreamMetrics upstreamMetrics;
 
     @Value("${employee.api.base-url:http://localhost:8112/api/v1/employee}")
     private String baseUrl;
 
+    /**
+     * Keeps fetched rosters in direct memory, see {@link OffHeapRoster}.
+     */
+    @Value("${employee.roster.off-heap:false}")
+    private boolean offHeapRoster;
+
     @Cacheable(CacheConfig.ALL_EMPLOYEES_CACHE)
     @Retryable(
             retryFor = {HttpServerErrorException.class, HttpClientErrorException.TooManyRequests.class},
             maxAttempts = 8,
             backoff = @Backoff(delay = 2000, multiplier = 2, random = true, maxDelay = 20000))
     public List<Employee> getAllEmployees() {
+        SnapshotRebuildEvent rebuild = new SnapshotRebuildEvent();
+        rebuild.begin();
         try {
-            ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
-                    baseUrl, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
+            ResponseEntity<ApiResponse<List<Employee>>> response = exchange(
+                    "getAllEmployees",
+                    baseUrl,
+                    baseUrl,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 List<Employee> employees = response.getBody().getData();
                 log.debug("Got {} employees from API", employees != null ? employees.size() : 0);
-                return employees != null ? employees : Collections.emptyList();
+                rebuild.end();
+                if (rebuild.shouldCommit()) {
+                    rebuild.source = "upstream";
+                    rebuild.employees = employees != null ? employees.size() : 0;
+                    rebuild.commit();
+                }
+                if (employees == null) {
+                    return Collections.emptyList();
+                }
+                return offHeapRoster ? OffHeapRoster.copyOf(employees) : employees;
             }
 
             throw new EmployeeServiceException("API returned: " + response.getStatusCode());
@@ -65,6 +99,8 @@ public class EmployeeService {
                 throw e;
             }
             throw new EmployeeServiceException("API error: " + e.getMessage(), e);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to get employees: {}", e.getMessage());
             throw new EmployeeServiceException("Failed to fetch employees", e);
@@ -77,14 +113,21 @@ public class EmployeeService {
             maxAttempts = 8,
             backoff = @Backoff(delay = 2000, multiplier = 2, random = true, maxDelay = 20000))
     public List<Employee> getEmployeesByNameSearch(String searchString) {
-        List<Employee> allEmployees = getAllEmployees();
-        List<Employee> results = new ArrayList<>();
-        for (Employee emp : allEmployees) {
-            if (emp.getEmployeeName() != null
-                    && emp.getEmployeeName().toLowerCase().contains(searchString.toLowerCase())) {
-                results.add(emp);
-            }
+        return searchByName(getAllEmployees(), searchString);
+    }
+
+    /**
+     * The query behind {@link #getEmployeesByNameSearch(String)}, over a roster at hand.
+     */
+    static List<Employee> searchByName(List<Employee> allEmployees, String searchString) {
+        long start = System.nanoTime();
+        List<Employee> results;
+        if (allEmployees instanceof OffHeapRoster roster) {
+            results = roster.searchByName(searchString);
+        } else {
+            results = NameSearch.filter(allEmployees, searchString);
         }
+        RequestTiming.record(RequestTiming.Phase.SEARCH, start);
         return results;
     }
 
@@ -96,8 +139,13 @@ public class EmployeeService {
     public Employee getEmployeeById(String id) {
         try {
             String url = baseUrl + "/" + id;
-            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
-                    url, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<Employee>>() {});
+            ResponseEntity<ApiResponse<Employee>> response = exchange(
+                    "getEmployeeById",
+                    baseUrl + BY_ID_PATH,
+                    url,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<ApiResponse<Employee>>() {});
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 Employee employee = response.getBody().getData();
@@ -114,6 +162,8 @@ public class EmployeeService {
                 throw e;
             }
             throw new EmployeeServiceException("API error: " + e.getMessage(), e);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             throw new EmployeeServiceException("Failed to get employee", e);
         }
@@ -125,10 +175,16 @@ public class EmployeeService {
             maxAttempts = 8,
             backoff = @Backoff(delay = 2000, multiplier = 2, random = true, maxDelay = 20000))
     public Integer getHighestSalaryOfEmployees() {
-        List<Employee> employees = getAllEmployees();
+        return highestSalary(getAllEmployees());
+    }
+
+    static Integer highestSalary(List<Employee> employees) {
         if (employees.isEmpty()) {
             return 0;
         }
+        if (employees instanceof OffHeapRoster roster) {
+            return roster.highestSalary();
+        }
 
         return employees.stream()
                 .filter(emp -> emp.getEmployeeSalary() != null)
@@ -143,7 +199,14 @@ public class EmployeeService {
             maxAttempts = 8,
             backoff = @Backoff(delay = 2000, multiplier = 2, random = true, maxDelay = 20000))
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        return getAllEmployees().stream()
+        return topTenHighestEarningNames(getAllEmployees());
+    }
+
+    static List<String> topTenHighestEarningNames(List<Employee> employees) {
+        if (employees instanceof OffHeapRoster roster) {
+            return roster.topEarnerNames(10);
+        }
+        return employees.stream()
                 .filter(emp -> emp.getEmployeeSalary() != null && emp.getEmployeeName() != null)
                 .sorted(Comparator.comparing(Employee::getEmployeeSalary, Comparator.reverseOrder()))
                 .limit(10)
@@ -161,8 +224,13 @@ public class EmployeeService {
     public Employee createEmployee(CreateEmployeeRequest request) {
         try {
             HttpEntity<CreateEmployeeRequest> entity = new HttpEntity<>(request);
-            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
-                    baseUrl, HttpMethod.POST, entity, new ParameterizedTypeReference<ApiResponse<Employee>>() {});
+            ResponseEntity<ApiResponse<Employee>> response = exchange(
+                    "createEmployee",
+                    baseUrl,
+                    baseUrl,
+                    HttpMethod.POST,
+                    entity,
+                    new ParameterizedTypeReference<ApiResponse<Employee>>() {});
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 Employee employee = response.getBody().getData();
@@ -177,6 +245,8 @@ public class EmployeeService {
                 throw e;
             }
             throw new EmployeeServiceException("Create failed: " + e.getMessage(), e);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             throw new EmployeeServiceException("Failed to create employee", e);
         }
@@ -201,8 +271,13 @@ public class EmployeeService {
             Map<String, String> deleteRequest = Map.of("name", employeeName);
             HttpEntity<Map<String, String>> entity = new HttpEntity<>(deleteRequest);
 
-            ResponseEntity<ApiResponse<Boolean>> response = restTemplate.exchange(
-                    baseUrl, HttpMethod.DELETE, entity, new ParameterizedTypeReference<ApiResponse<Boolean>>() {});
+            ResponseEntity<ApiResponse<Boolean>> response = exchange(
+                    "deleteEmployeeById",
+                    baseUrl,
+                    baseUrl,
+                    HttpMethod.DELETE,
+                    entity,
+                    new ParameterizedTypeReference<ApiResponse<Boolean>>() {});
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 Boolean deleted = response.getBody().getData();
@@ -219,8 +294,69 @@ public class EmployeeService {
                 throw e;
             }
             throw new EmployeeServiceException("Delete failed: " + e.getMessage(), e);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             throw new EmployeeServiceException("Failed to delete employee", e);
         }
     }
+
+    /**
+     * Every call to the mock API goes through here so each exchange is timed and tagged with its outcome.
+     */
+    private <T> ResponseEntity<T> exchange(
+            String operation,
+            String urlTemplate,
+            String url,
+            HttpMethod method,
+            HttpEntity<?> entity,
+            ParameterizedTypeReference<T> responseType) {
+        RequestDeadline.check(operation);
+        Bulkhead.acquireUpstreamPermit();
+        Timer.Sample sample = upstreamMetrics.start();
+        UpstreamExchangeEvent event = new UpstreamExchangeEvent();
+        event.begin();
+        long start = System.nanoTime();
+        // Only the outcome is kept here; the event's fields are filled in below if it is recorded at all.
+        ResponseEntity<T> response = null;
+        RuntimeException failure = null;
+        try {
+            response = restTemplate.exchange(url, method, entity, responseType);
+            upstreamMetrics.recordExchange(sample, operation, response.getStatusCode());
+            return response;
+        } catch (HttpStatusCodeException e) {
+            failure = e;
+            upstreamMetrics.recordExchange(sample, operation, e.getStatusCode());
+            throw e;
+        } catch (RuntimeException e) {
+            failure = e;
+            upstreamMetrics.recordExchange(sample, operation, e);
+            RequestDeadline deadline = RequestDeadline.current();
+            if (deadline != null && deadline.expired()) {
+                // Most likely the read timeout, cut short to the time that was left.
+                throw new DeadlineExceededException("Deadline exceeded during " + operation, e);
+            }
+            throw e;
+        } finally {
+            RequestTiming.record(RequestTiming.Phase.UPSTREAM, start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.method = method.name();
+                event.urlTemplate = urlTemplate;
+                event.attempt = UpstreamMetrics.currentAttempt();
+                if (response != null) {
+                    event.status = response.getStatusCode().value();
+                    event.responseBytes = response.getHeaders().getContentLength();
+                } else if (failure instanceof HttpStatusCodeException e) {
+                    event.status = e.getStatusCode().value();
+                    event.responseBytes = e.getResponseBodyAsByteArray().length;
+                } else if (failure != null) {
+                    event.responseBytes = -1;
+                    event.error = failure.getClass().getSimpleName();
+                }
+                event.commit();
+            }
+        }
+    }
 }
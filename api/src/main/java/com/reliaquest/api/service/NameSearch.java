@@ -0,0 +1,41 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The in-memory name scan shared by {@link EmployeeService} and {@link CachedEmployeeService}. It is kept apart from
+ * both services so that mocking either in a test does not instrument the per-employee loop.
+ */
+final class NameSearch {
+
+    private NameSearch() {}
+
+    /**
+     * The employees whose name contains {@code fragment}, ignoring case, in roster order.
+     */
+    static List<Employee> filter(List<Employee> employees, String fragment) {
+        List<Employee> results = new ArrayList<>();
+        for (Employee emp : employees) {
+            String name = emp.getEmployeeName();
+            if (name != null && containsIgnoreCase(name, fragment)) {
+                results.add(emp);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Case-insensitive {@code contains} that compares in place instead of lower-casing both strings per employee.
+     */
+    static boolean containsIgnoreCase(String text, String fragment) {
+        int length = fragment.length();
+        for (int i = 0, last = text.length() - length; i <= last; i++) {
+            if (text.regionMatches(true, i, fragment, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.api.snapshot;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * On-disk roster snapshot: a fixed header followed by the roster as JSON.
+ *
+ * <pre>
+ * magic "EMPS" | format version (int) | sequence (long) | saved at, epoch millis (long) | payload length (int)
+ * | CRC32C of the payload (int) | payload
+ * </pre>
+ *
+ * Reads map the file instead of copying it onto the heap; writes go to a temporary file that is forced to disk and
+ * then atomically moved into place, so a crash never leaves a torn snapshot behind.
+ */
+@RequiredArgsConstructor
+public class RosterSnapshotFile {
+
+    static final int MAGIC = 0x454D5053;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4 + 4;
+
+    private static final TypeReference<List<Employee>> ROSTER = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    public record Snapshot(long sequence, Instant savedAt, List<Employee> employees) {}
+
+    /**
+     * Returns the snapshot stored at {@code path}, or empty if there is none.
+     *
+     * @throws IOException if the file exists but is truncated, of another format or fails its checksum
+     */
+    public Optional<Snapshot> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Snapshot " + path + " is truncated");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Snapshot " + path + " is not a roster snapshot");
+            }
+            int formatVersion = buffer.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException("Snapshot " + path + " has unsupported format version " + formatVersion);
+            }
+            long sequence = buffer.getLong();
+            Instant savedAt = Instant.ofEpochMilli(buffer.getLong());
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length < 0 || length != size - HEADER_BYTES) {
+                throw new IOException("Snapshot " + path + " is truncated");
+            }
+
+            ByteBuffer payload = buffer.slice(HEADER_BYTES, length);
+            CRC32C crc = new CRC32C();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("Snapshot " + path + " failed its checksum");
+            }
+            List<Employee> employees = objectMapper.readValue(new ByteBufferBackedInputStream(payload), ROSTER);
+            return Optional.of(new Snapshot(sequence, savedAt, employees));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void write(Path path, Snapshot snapshot) throws IOException {
+        byte[] payload = objectMapper.writeValueAsBytes(snapshot.employees());
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(snapshot.sequence())
+                .putLong(snapshot.savedAt().toEpochMilli())
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .flip();
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer body = ByteBuffer.wrap(payload);
+                while (header.hasRemaining() || body.hasRemaining()) {
+                    channel.write(new ByteBuffer[] {header, body});
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.reliaquest.api.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.CacheConfig;
+import com.reliaquest.api.jfr.SnapshotRebuildEvent;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.CachedEmployeeService;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the roster warm across restarts. On startup, before the application reports ready, the last persisted roster
+ * is loaded into the roster cache, along with the salary figures derived from it, and marked stale; name searches are
+ * answered from it too. A background task then refreshes it from upstream, which also drops whatever was derived from
+ * the snapshot, and from then on persists the cached roster whenever it changes.
+ */
+@Slf4j
+@Component("rosterSnapshot")
+@ConditionalOnProperty(prefix = "employee.snapshot", name = "enabled", havingValue = "true")
+public class RosterWarmStart implements ApplicationRunner, HealthIndicator, DisposableBean {
+
+    private final CacheManager cacheManager;
+    private final CachedEmployeeService cachedEmployeeService;
+    private final RosterSnapshotFile snapshotFile;
+    private final Path path;
+    private final Duration persistInterval;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "roster-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean stale;
+    private volatile long sequence;
+    private volatile Instant savedAt;
+    private volatile List<Employee> persisted;
+
+    public RosterWarmStart(
+            CacheManager cacheManager,
+            CachedEmployeeService cachedEmployeeService,
+            ObjectMapper objectMapper,
+            @Value("${employee.snapshot.path}") Path path,
+            @Value("${employee.snapshot.persist-interval:1m}") Duration persistInterval) {
+        this.cacheManager = cacheManager;
+        this.cachedEmployeeService = cachedEmployeeService;
+        this.snapshotFile = new RosterSnapshotFile(objectMapper);
+        this.path = path;
+        this.persistInterval = persistInterval;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        load().ifPresent(snapshot -> {
+            cachedEmployeeService.warmFrom(snapshot.employees());
+            persisted = snapshot.employees();
+            sequence = snapshot.sequence();
+            savedAt = snapshot.savedAt();
+            stale = true;
+        });
+        executor.scheduleWithFixedDelay(this::tick, 0, persistInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder health = Health.up().withDetail("stale", stale).withDetail("path", path.toString());
+        if (savedAt != null) {
+            health.withDetail("sequence", sequence).withDetail("savedAt", savedAt);
+        }
+        return health.build();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private Optional<RosterSnapshotFile.Snapshot> load() {
+        SnapshotRebuildEvent event = new SnapshotRebuildEvent();
+        event.begin();
+        try {
+            Optional<RosterSnapshotFile.Snapshot> snapshot = snapshotFile.read(path);
+            snapshot.ifPresentOrElse(
+                    loaded -> {
+                        log.info(
+                                "Loaded roster snapshot #{} ({} employees, saved {}), stale until refreshed",
+                                loaded.sequence(),
+                                loaded.employees().size(),
+                                loaded.savedAt());
+                        event.end();
+                        if (event.shouldCommit()) {
+                            event.source = "snapshot";
+                            event.employees = loaded.employees().size();
+                            event.commit();
+                        }
+                    },
+                    () -> log.info("No roster snapshot at {}; starting cold", path));
+            return snapshot;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable roster snapshot at {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void tick() {
+        try {
+            if (stale) {
+                cachedEmployeeService.refreshAllEmployees();
+                stale = false;
+                log.info("Roster snapshot refreshed from upstream");
+            }
+            persistIfChanged();
+        } catch (Exception e) {
+            log.warn("Roster snapshot refresh failed, retrying in {}: {}", persistInterval, e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void persistIfChanged() throws IOException {
+        Cache.ValueWrapper cached = rosterCache().get(CachedEmployeeService.ALL_EMPLOYEES_KEY);
+        if (cached == null || !(cached.get() instanceof List<?> roster) || roster == persisted) {
+            return;
+        }
+        RosterSnapshotFile.Snapshot snapshot =
+                new RosterSnapshotFile.Snapshot(sequence + 1, Instant.now(), (List<Employee>) roster);
+        snapshotFile.write(path, snapshot);
+        persisted = snapshot.employees();
+        sequence = snapshot.sequence();
+        savedAt = snapshot.savedAt();
+        log.debug("Persisted roster snapshot #{} of {} employees", sequence, roster.size());
+    }
+
+    private Cache rosterCache() {
+        return cacheManager.getCache(CacheConfig.ALL_EMPLOYEES_CACHE);
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.api.writequeue;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import java.time.Instant;
+
+/**
+ * A create or delete accepted by the {@link WriteQueue}, as persisted and as reported by the status endpoint. A create
+ * learns its employee id once applied; a delete learns the deleted employee's name.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WriteOperation(
+        String id,
+        long sequence,
+        Type type,
+        Status status,
+        CreateEmployeeRequest request,
+        String employeeId,
+        String employeeName,
+        int attempts,
+        String error,
+        Instant acceptedAt,
+        Instant completedAt) {
+
+    public enum Type {
+        CREATE,
+        DELETE
+    }
+
+    public enum Status {
+        PENDING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    static WriteOperation create(String id, long sequence, CreateEmployeeRequest request, Instant acceptedAt) {
+        return new WriteOperation(
+                id, sequence, Type.CREATE, Status.PENDING, request, null, request.getName(), 0, null, acceptedAt, null);
+    }
+
+    static WriteOperation delete(String id, long sequence, String employeeId, Instant acceptedAt) {
+        return new WriteOperation(
+                id, sequence, Type.DELETE, Status.PENDING, null, employeeId, null, 0, null, acceptedAt, null);
+    }
+
+    @JsonIgnore
+    public boolean isDone() {
+        return status != Status.PENDING;
+    }
+
+    WriteOperation attempted() {
+        return new WriteOperation(
+                id,
+                sequence,
+                type,
+                status,
+                request,
+                employeeId,
+                employeeName,
+                attempts + 1,
+                error,
+                acceptedAt,
+                completedAt);
+    }
+
+    WriteOperation succeeded(String employeeId, String employeeName, Instant completedAt) {
+        return new WriteOperation(
+                id,
+                sequence,
+                type,
+                Status.SUCCEEDED,
+                request,
+                employeeId,
+                employeeName,
+                attempts,
+                null,
+                acceptedAt,
+                completedAt);
+    }
+
+    WriteOperation failed(String error, Instant completedAt) {
+        return new WriteOperation(
+                id,
+                sequence,
+                type,
+                Status.FAILED,
+                request,
+                employeeId,
+                employeeName,
+                attempts,
+                error,
+                acceptedAt,
+                completedAt);
+    }
+}
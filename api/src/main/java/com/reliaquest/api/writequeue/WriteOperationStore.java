@@ -0,0 +1,82 @@
+package com.reliaquest.api.writequeue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps each write operation as one JSON file in a directory, named so that names sort in the order the operations
+ * were accepted. Every save goes to a temporary file that is forced to disk and then atomically moved over the
+ * previous version, so an operation survives a crash as it was last saved, never torn.
+ */
+@Slf4j
+final class WriteOperationStore {
+
+    private static final Pattern OPERATION_FILE = Pattern.compile("\\d{20}-[0-9a-f-]{36}\\.json");
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    WriteOperationStore(ObjectMapper objectMapper, Path directory) throws IOException {
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+        Files.createDirectories(directory);
+    }
+
+    void save(WriteOperation operation) throws IOException {
+        Path temp = Files.createTempFile(directory, ".operation", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer body = ByteBuffer.wrap(objectMapper.writeValueAsBytes(operation));
+                while (body.hasRemaining()) {
+                    channel.write(body);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, fileOf(operation), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    void delete(WriteOperation operation) throws IOException {
+        Files.deleteIfExists(fileOf(operation));
+    }
+
+    /**
+     * Returns every stored operation in the order it was accepted, skipping files that cannot be read.
+     */
+    List<WriteOperation> loadAll() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listed = Files.list(directory)) {
+            files = listed.filter(file ->
+                            OPERATION_FILE.matcher(file.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        }
+        List<WriteOperation> operations = new ArrayList<>(files.size());
+        for (Path file : files) {
+            try {
+                operations.add(objectMapper.readValue(file.toFile(), WriteOperation.class));
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable write operation {}: {}", file, e.getMessage());
+            }
+        }
+        return operations;
+    }
+
+    private Path fileOf(WriteOperation operation) {
+        // Zero-padded so that names sort by sequence.
+        return directory.resolve(String.format("%020d-%s.json", operation.sequence(), operation.id()));
+    }
+}
@@ -0,0 +1,273 @@
+package com.reliaquest.api.writequeue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.bulkhead.UpstreamScheduler;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.EmployeeServiceException;
+import com.reliaquest.api.exception.WriteQueueFullException;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.CachedEmployeeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Accepts creates and deletes without waiting for the upstream: each is saved to disk and queued, and a single drainer
+ * thread applies them one at a time, in the order they were accepted, through {@link CachedEmployeeService}. Their
+ * upstream attempts are scheduled as {@link UpstreamScheduler.Priority#BULK}, so the drainer only uses the upstream
+ * rate other traffic leaves, and the upstream sees a steady trickle of writes however bursty the callers are.
+ *
+ * <p>A failed operation stays at the head of the queue and is tried again after {@code retryDelay}, so the writes
+ * behind it wait too: applying them first could delete an employee before its queued create. One failing operation
+ * therefore holds up the queue for at most {@code (maxAttempts - 1) * retryDelay} before it is given up as failed.
+ *
+ * <p>On shutdown the drainer finishes the operation in flight and saves its outcome before it stops, so a write the
+ * upstream already applied is not applied again after the next start. Operations still pending are applied after the
+ * next start; only one still in flight when the shutdown times out may be applied twice, so delivery is at least once.
+ * Finished operations can be looked up for {@code retention}.
+ */
+@Slf4j
+@Component
+public class WriteQueue implements ApplicationRunner, DisposableBean {
+
+    static final String PENDING = "employee.write.queue.pending";
+    static final String COMPLETED = "employee.write.queue.completed";
+
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration IDLE_POLL = Duration.ofMillis(200);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final CachedEmployeeService cachedEmployeeService;
+    private final WriteOperationStore store;
+    private final MeterRegistry meterRegistry;
+    private final int capacity;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration retention;
+    private final Map<String, WriteOperation> operations = new ConcurrentHashMap<>();
+    private final BlockingDeque<String> pending = new LinkedBlockingDeque<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final CountDownLatch stopping = new CountDownLatch(1);
+    private volatile boolean running = true;
+    private final ExecutorService drainer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "write-queue-drainer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public WriteQueue(
+            CachedEmployeeService cachedEmployeeService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${employee.write-queue.directory:data/write-queue}") Path directory,
+            @Value("${employee.write-queue.capacity:1000}") int capacity,
+            @Value("${employee.write-queue.max-attempts:5}") int maxAttempts,
+            @Value("${employee.write-queue.retry-delay:30s}") Duration retryDelay,
+            @Value("${employee.write-queue.retention:1h}") Duration retention)
+            throws IOException {
+        this.cachedEmployeeService = cachedEmployeeService;
+        this.store = new WriteOperationStore(objectMapper, directory);
+        this.meterRegistry = meterRegistry;
+        this.capacity = capacity;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.retention = retention;
+        for (WriteOperation operation : store.loadAll()) {
+            operations.put(operation.id(), operation);
+            sequence.accumulateAndGet(operation.sequence(), Math::max);
+            if (!operation.isDone()) {
+                pending.addLast(operation.id());
+            }
+        }
+        if (!pending.isEmpty()) {
+            log.info("Resuming {} queued write operations from {}", pending.size(), directory.toAbsolutePath());
+        }
+        Gauge.builder(PENDING, pending, BlockingDeque::size)
+                .description("Asynchronous writes accepted but not yet applied upstream")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        drainer.execute(this::drain);
+    }
+
+    /**
+     * Queues the creation of an employee.
+     *
+     * @throws WriteQueueFullException if {@code capacity} operations are already pending
+     */
+    public WriteOperation create(CreateEmployeeRequest request) {
+        return accept(WriteOperation.create(
+                UUID.randomUUID().toString(), sequence.incrementAndGet(), request, Instant.now()));
+    }
+
+    /**
+     * Queues the deletion of an employee.
+     *
+     * @throws WriteQueueFullException if {@code capacity} operations are already pending
+     */
+    public WriteOperation delete(String employeeId) {
+        return accept(WriteOperation.delete(
+                UUID.randomUUID().toString(), sequence.incrementAndGet(), employeeId, Instant.now()));
+    }
+
+    public Optional<WriteOperation> find(String operationId) {
+        return Optional.ofNullable(operations.get(operationId));
+    }
+
+    /**
+     * Stops the drainer after the operation in flight, if any, and waits for it, so no operation file is written after
+     * shutdown. Only a drainer still busy after {@code SHUTDOWN_TIMEOUT} is interrupted: interrupting an upstream call
+     * or the save of its outcome could leave an applied write pending on disk.
+     */
+    @Override
+    public void destroy() {
+        running = false;
+        stopping.countDown();
+        drainer.shutdown();
+        try {
+            if (!drainer.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Write queue drainer did not stop within {}, interrupting it", SHUTDOWN_TIMEOUT);
+                drainer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            drainer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized WriteOperation accept(WriteOperation operation) {
+        if (pending.size() >= capacity) {
+            throw new WriteQueueFullException("The write queue is full (" + capacity + " pending)");
+        }
+        try {
+            store.save(operation);
+        } catch (IOException e) {
+            throw new EmployeeServiceException("Could not persist write operation", e);
+        }
+        operations.put(operation.id(), operation);
+        pending.addLast(operation.id());
+        log.debug("Queued {} operation {} ({} pending)", operation.type(), operation.id(), pending.size());
+        return operation;
+    }
+
+    private void drain() {
+        long lastPurge = System.nanoTime() - PURGE_INTERVAL.toNanos();
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                if (System.nanoTime() - lastPurge >= PURGE_INTERVAL.toNanos()) {
+                    purgeCompleted();
+                    lastPurge = System.nanoTime();
+                }
+                // Polled briefly rather than interrupted, so a shutdown never cuts into an operation.
+                String operationId = pending.pollFirst(IDLE_POLL.toMillis(), TimeUnit.MILLISECONDS);
+                if (operationId != null && running) {
+                    apply(operations.get(operationId));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Write queue drainer failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void apply(WriteOperation operation) throws InterruptedException {
+        WriteOperation attempt = operation.attempted();
+        WriteOperation outcome;
+        try {
+            outcome = switch (attempt.type()) {
+                case CREATE -> {
+                    Employee employee = UpstreamScheduler.withPriority(
+                            UpstreamScheduler.Priority.BULK,
+                            () -> cachedEmployeeService.createEmployee(attempt.request()));
+                    yield attempt.succeeded(employee.getId(), employee.getEmployeeName(), Instant.now());
+                }
+                case DELETE -> {
+                    String employeeName = UpstreamScheduler.withPriority(
+                            UpstreamScheduler.Priority.BULK,
+                            () -> cachedEmployeeService.deleteEmployeeById(attempt.employeeId()));
+                    yield attempt.succeeded(attempt.employeeId(), employeeName, Instant.now());
+                }
+            };
+        } catch (EmployeeNotFoundException e) {
+            outcome = attempt.failed(e.getMessage(), Instant.now());
+        } catch (RuntimeException e) {
+            if (attempt.attempts() < maxAttempts) {
+                log.warn(
+                        "{} operation {} failed on attempt {}, retrying in {}: {}",
+                        attempt.type(),
+                        attempt.id(),
+                        attempt.attempts(),
+                        retryDelay,
+                        e.getMessage());
+                update(attempt);
+                pending.addFirst(attempt.id());
+                // Cut short by a shutdown; the operation is already saved for the next start.
+                stopping.await(retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+                return;
+            }
+            outcome = attempt.failed(e.getMessage(), Instant.now());
+        }
+        // Counted before the outcome is published, so whoever sees it finished also sees it counted.
+        Counter.builder(COMPLETED)
+                .description("Asynchronous writes finished, by outcome")
+                .tag("type", outcome.type().name().toLowerCase())
+                .tag("status", outcome.status().name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+        update(outcome);
+        log.info(
+                "{} operation {} {} after {} attempt(s)",
+                outcome.type(),
+                outcome.id(),
+                outcome.status(),
+                outcome.attempts());
+    }
+
+    private void update(WriteOperation operation) {
+        operations.put(operation.id(), operation);
+        try {
+            store.save(operation);
+        } catch (IOException e) {
+            log.warn("Could not persist write operation {}: {}", operation.id(), e.getMessage());
+        }
+    }
+
+    private void purgeCompleted() {
+        Instant expiredBefore = Instant.now().minus(retention);
+        for (WriteOperation operation : operations.values()) {
+            if (operation.isDone() && operation.completedAt().isBefore(expiredBefore)) {
+                operations.remove(operation.id());
+                try {
+                    store.delete(operation);
+                } catch (IOException e) {
+                    log.warn("Could not delete write operation {}: {}", operation.id(), e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.reliaquest.api.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.deadline.RequestDeadline;
+import com.reliaquest.api.exception.BulkheadFullException;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.metrics.RequestTiming;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UpstreamScheduler unlimited = new UpstreamScheduler(0, 1, Map.of(), meterRegistry);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private Bulkhead bulkhead;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        bulkhead.close();
+        RequestDeadline.end();
+        RequestTiming.end();
+    }
+
+    @Test
+    void call_RunsOnWorkerAndRethrowsCallerExceptions() {
+        bulkhead = bulkhead("read", 2, 2, Bulkhead.Rejection.FAIL);
+
+        String thread = bulkhead.call(() -> Thread.currentThread().getName());
+        assertTrue(thread.startsWith("bulkhead-read-"), thread);
+
+        EmployeeNotFoundException notFound = new EmployeeNotFoundException("Employee not found: 1");
+        assertSame(notFound, assertThrows(EmployeeNotFoundException.class, () -> bulkhead.call(() -> {
+            throw notFound;
+        })));
+    }
+
+    @Test
+    void call_RejectsWhenThreadsAndQueueAreBusy() throws Exception {
+        bulkhead = bulkhead("write", 1, 1, Bulkhead.Rejection.FAIL);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> bulkhead.call(this::blocked));
+        awaitSaturation(0.5);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> bulkhead.call(() -> "queued"));
+        awaitSaturation(1.0);
+
+        assertThrows(BulkheadFullException.class, () -> bulkhead.call(() -> "rejected"));
+        assertEquals(1.0, meterRegistry.get(Bulkhead.REJECTED).counter().count());
+
+        release.countDown();
+        assertEquals("released", running.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void call_DiscardOldestReplacesQueuedCall() throws Exception {
+        bulkhead = bulkhead("refresh", 1, 1, Bulkhead.Rejection.DISCARD_OLDEST);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> bulkhead.call(this::blocked));
+        awaitSaturation(0.5);
+        CompletableFuture<String> oldest = CompletableFuture.supplyAsync(() -> bulkhead.call(() -> "oldest"));
+        awaitSaturation(1.0);
+        CompletableFuture<String> newest = CompletableFuture.supplyAsync(() -> bulkhead.call(() -> "newest"));
+
+        ExecutionException dropped = assertThrows(ExecutionException.class, () -> oldest.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(BulkheadFullException.class, dropped.getCause());
+
+        release.countDown();
+        assertEquals("released", running.get(5, TimeUnit.SECONDS));
+        assertEquals("newest", newest.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void call_CarriesDeadlineAndInterruptsCallsPastIt() {
+        bulkhead = bulkhead("read", 1, 1, Bulkhead.Rejection.FAIL);
+        RequestDeadline deadline = RequestDeadline.begin(Duration.ofMillis(200));
+
+        assertSame(deadline, bulkhead.call(RequestDeadline::current));
+        assertThrows(DeadlineExceededException.class, () -> bulkhead.call(this::blocked));
+    }
+
+    @Test
+    void call_AddsWorkerPhasesToRequestTiming() {
+        bulkhead = bulkhead("read", 1, 0, Bulkhead.Rejection.FAIL);
+        RequestTiming timing = RequestTiming.begin();
+
+        bulkhead.call(() -> {
+            RequestTiming.record(RequestTiming.Phase.UPSTREAM, System.nanoTime() - 1_000_000);
+            return null;
+        });
+
+        assertEquals(1, timing.count(RequestTiming.Phase.UPSTREAM));
+        assertTrue(timing.nanos(RequestTiming.Phase.UPSTREAM) >= 1_000_000);
+        assertEquals(1, timing.count(RequestTiming.Phase.QUEUE));
+    }
+
+    @Test
+    void call_SchedulesUpstreamAttemptsAsRequestedPriority() {
+        bulkhead = new Bulkhead(
+                "write", 1, 1, Bulkhead.Rejection.FAIL, unlimited, UpstreamScheduler.Priority.WRITE, meterRegistry);
+
+        assertEquals(UpstreamScheduler.Priority.WRITE, bulkhead.call(UpstreamScheduler::requestedPriority));
+        assertEquals(
+                UpstreamScheduler.Priority.BULK,
+                UpstreamScheduler.withPriority(
+                        UpstreamScheduler.Priority.BULK, () -> bulkhead.call(UpstreamScheduler::requestedPriority)));
+        assertNull(UpstreamScheduler.requestedPriority());
+    }
+
+    @Test
+    void acquireUpstreamPermit_SpacesAttemptsToBudget() {
+        UpstreamScheduler scheduler = new UpstreamScheduler(10, 10, Map.of(), new SimpleMeterRegistry());
+        bulkhead = new Bulkhead(
+                "write", 1, 0, Bulkhead.Rejection.FAIL, scheduler, UpstreamScheduler.Priority.WRITE, meterRegistry);
+        Bulkhead.acquireUpstreamPermit();
+
+        long elapsed = bulkhead.call(() -> {
+            long start = System.nanoTime();
+            for (int i = 0; i < 15; i++) {
+                Bulkhead.acquireUpstreamPermit();
+            }
+            return System.nanoTime() - start;
+        });
+
+        // A burst of 10 goes at once, the other 5 are spaced 100ms apart.
+        assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(450), "took " + elapsed);
+    }
+
+    private Bulkhead bulkhead(String name, int maxConcurrent, int queueCapacity, Bulkhead.Rejection rejection) {
+        return new Bulkhead(
+                name,
+                maxConcurrent,
+                queueCapacity,
+                rejection,
+                unlimited,
+                UpstreamScheduler.Priority.INTERACTIVE,
+                meterRegistry);
+    }
+
+    private String blocked() {
+        try {
+            release.await();
+            return "released";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitSaturation(double saturation) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(Bulkhead.SATURATION).gauge().value() < saturation) {
+            assertTrue(System.nanoTime() < deadline, "bulkhead never saturated");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.api.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class RateBudgetTest {
+
+    @Test
+    void reserve_AllowsBurstThenSpacesPermits() {
+        RateBudget budget = new RateBudget(2, 2);
+        long now = 0;
+
+        assertEquals(0, budget.waitNanos(now));
+        assertEquals(0, budget.reserve(now));
+        assertEquals(0, budget.reserve(now));
+        assertEquals(500_000_000L, budget.waitNanos(now));
+        assertEquals(500_000_000L, budget.reserve(now));
+    }
+
+    @Test
+    void reserve_NeverWaitsWithoutLimit() {
+        RateBudget budget = new RateBudget(0, 1);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, budget.reserve(0));
+        }
+        assertEquals(0, budget.waitNanos(0));
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.api.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class UpstreamSchedulerTest {
+
+    private static final Map<UpstreamScheduler.Priority, Integer> WEIGHTS = Map.of(
+            UpstreamScheduler.Priority.INTERACTIVE, 60,
+            UpstreamScheduler.Priority.WRITE, 25,
+            UpstreamScheduler.Priority.REFRESH, 10,
+            UpstreamScheduler.Priority.BULK, 5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void acquire_InteractiveOvertakesBulkBacklog() throws Exception {
+        UpstreamScheduler scheduler = new UpstreamScheduler(5, 1, WEIGHTS, meterRegistry);
+        assertTrue(scheduler.acquire(UpstreamScheduler.Priority.BULK, Long.MAX_VALUE));
+        List<String> granted = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> bulk = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            bulk.add(CompletableFuture.runAsync(() -> acquire(scheduler, UpstreamScheduler.Priority.BULK, granted)));
+        }
+        awaitQueuedOrGranted("bulk", 3, granted);
+
+        acquire(scheduler, UpstreamScheduler.Priority.INTERACTIVE, granted);
+        CompletableFuture.allOf(bulk.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // Served in arrival order, the read would be last.
+        assertTrue(granted.indexOf("INTERACTIVE") <= 1, granted.toString());
+        assertEquals(4, granted.size());
+    }
+
+    @Test
+    void acquire_BulkUsesWholeRateWhenAlone() throws Exception {
+        UpstreamScheduler scheduler = new UpstreamScheduler(20, 1, WEIGHTS, meterRegistry);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(scheduler.acquire(UpstreamScheduler.Priority.BULK, Long.MAX_VALUE));
+        }
+
+        // At its weighted share of 1 per second, this would take 4 seconds.
+        long elapsed = System.nanoTime() - start;
+        assertTrue(elapsed < TimeUnit.SECONDS.toNanos(1), "took " + elapsed);
+        assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(190), "took " + elapsed);
+    }
+
+    @Test
+    void acquire_GivesUpWhenNoPermitWithinTimeout() throws Exception {
+        UpstreamScheduler scheduler = new UpstreamScheduler(1, 1, WEIGHTS, meterRegistry);
+        assertTrue(scheduler.acquire(UpstreamScheduler.Priority.INTERACTIVE, Long.MAX_VALUE));
+
+        assertFalse(scheduler.acquire(UpstreamScheduler.Priority.INTERACTIVE, TimeUnit.MILLISECONDS.toNanos(10)));
+        assertEquals(0, meterRegistry.get(UpstreamScheduler.QUEUED).tag("priority", "interactive").gauge().value());
+    }
+
+    @Test
+    void acquire_UnlimitedNeverWaits() throws Exception {
+        UpstreamScheduler scheduler = new UpstreamScheduler(0, 1, Map.of(), meterRegistry);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(scheduler.acquire(UpstreamScheduler.Priority.BULK, 0));
+        }
+        assertTrue(scheduler.isUnlimited());
+    }
+
+    private static void acquire(
+            UpstreamScheduler scheduler, UpstreamScheduler.Priority priority, List<String> granted) {
+        try {
+            assertTrue(scheduler.acquire(priority, TimeUnit.SECONDS.toNanos(5)));
+            granted.add(priority.name());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitQueuedOrGranted(String priority, int count, List<String> granted) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(UpstreamScheduler.QUEUED).tag("priority", priority).gauge().value() + granted.size()
+                < count) {
+            assertTrue(System.nanoTime() < deadline, "callers never queued");
+            Thread.sleep(5);
+        }
+    }
+}
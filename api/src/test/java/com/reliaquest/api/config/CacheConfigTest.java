@@ -2,7 +2,13 @@ package com.reliaquest.api.config;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.github.benmanes.caffeine.cache.Policy;
+import com.reliaquest.api.model.Employee;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,7 +16,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Tests for CacheConfig to ensure proper cache configuration and key generation.
@@ -66,11 +74,83 @@ class CacheConfigTest {
         assertEquals("length", key.toString());
     }
 
+    @Test
+    void searchKeyGenerator_FoldsCaseOfStringParams() throws NoSuchMethodException {
+        KeyGenerator keyGenerator = cacheConfig.searchKeyGenerator();
+        Method method = String.class.getMethod("contains", CharSequence.class);
+        Object target = new Object();
+
+        assertEquals(keyGenerator.generate(target, method, "Jo"), keyGenerator.generate(target, method, "jO"));
+        assertEquals("contains:[jo]", CacheConfig.searchKey("contains", "JO"));
+    }
+
     @Test
     void cacheConstants_ShouldHaveCorrectValues() {
         assertEquals("allEmployees", CacheConfig.ALL_EMPLOYEES_CACHE);
         assertEquals("employeeById", CacheConfig.EMPLOYEE_BY_ID_CACHE);
         assertEquals("employeeSearch", CacheConfig.EMPLOYEE_SEARCH_CACHE);
         assertEquals("salaryCalculations", CacheConfig.SALARY_CALCULATIONS_CACHE);
+        assertEquals("employeeNotFound", CacheConfig.EMPLOYEE_NOT_FOUND_CACHE);
+    }
+
+    @Test
+    void cacheManager_AppliesPolicyPerCache() {
+        CachePolicyProperties properties = new CachePolicyProperties();
+        properties.setMemoryBudget(DataSize.ofMegabytes(10));
+        CachePolicyProperties.Policy rosterPolicy = new CachePolicyProperties.Policy();
+        rosterPolicy.setExpireAfterWrite(Duration.ofSeconds(30));
+        rosterPolicy.setBudgetPercent(50);
+        properties.getPolicies().put(CacheConfig.ALL_EMPLOYEES_CACHE, rosterPolicy);
+
+        CacheManager manager = cacheConfig.cacheManager(properties);
+
+        assertEquals(Set.copyOf(CacheConfig.CACHE_NAMES), Set.copyOf(manager.getCacheNames()));
+        long putAt = System.nanoTime();
+        manager.getCache(CacheConfig.ALL_EMPLOYEES_CACHE).put("all", List.of());
+        Policy<Object, Object> roster = nativeCache(manager, CacheConfig.ALL_EMPLOYEES_CACHE).policy();
+        long rosterExpiresAfter =
+                roster.expireVariably().orElseThrow().getExpiresAfter("all", TimeUnit.MILLISECONDS).orElseThrow();
+        // The remaining time shrinks by however long the lookup took, which a loaded machine can stretch.
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - putAt);
+        assertTrue(
+                rosterExpiresAfter <= 30_000 && rosterExpiresAfter >= 27_000 - elapsed - 1,
+                "expires after " + rosterExpiresAfter);
+        assertEquals(5 * 1024 * 1024, roster.eviction().orElseThrow().getMaximum());
+        assertTrue(roster.isRecordingStats());
+
+        manager.getCache(CacheConfig.EMPLOYEE_BY_ID_CACHE).put("1", "Soumadipta Roy");
+        Policy<Object, Object> byId = nativeCache(manager, CacheConfig.EMPLOYEE_BY_ID_CACHE).policy();
+        long byIdExpiresAfter =
+                byId.expireVariably().orElseThrow().getExpiresAfter("1", TimeUnit.SECONDS).orElseThrow();
+        assertTrue(byIdExpiresAfter <= 300 && byIdExpiresAfter >= 270, "expires after " + byIdExpiresAfter);
+        assertEquals(10 * 1024 * 1024 / 4, byId.eviction().orElseThrow().getMaximum());
+    }
+
+    @Test
+    void cacheManager_RejectsUnknownCacheNames() {
+        CacheManager manager = cacheConfig.cacheManager(new CachePolicyProperties());
+
+        assertNull(manager.getCache("unknownCache"));
+    }
+
+    @Test
+    void estimatedSizeWeigher_WeighsRosterByItsSize() {
+        EstimatedSizeWeigher weigher = new EstimatedSizeWeigher();
+        Employee employee = Employee.builder()
+                .id("1")
+                .employeeName("Soumadipta Roy")
+                .employeeSalary(50000)
+                .build();
+
+        int employeeWeight = weigher.weigh("1", employee);
+        int rosterWeight = weigher.weigh("all", List.of(employee, employee, employee));
+
+        assertTrue(employeeWeight > EstimatedSizeWeigher.ENTRY_OVERHEAD);
+        assertTrue(rosterWeight > 2 * employeeWeight);
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(
+            CacheManager manager, String name) {
+        return ((CaffeineCache) manager.getCache(name)).getNativeCache();
     }
 }
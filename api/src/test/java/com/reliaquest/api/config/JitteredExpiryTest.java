@@ -0,0 +1,85 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class JitteredExpiryTest {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+    private static final int KEYS = 200;
+
+    @Test
+    void expireAfterCreate_StaysWithinJitterBelowTimeToLive() {
+        JitteredExpiry expiry = new JitteredExpiry(TIME_TO_LIVE, 20, new Random(42)::nextDouble);
+
+        for (int i = 0; i < 1_000; i++) {
+            long nanos = expiry.expireAfterCreate("key", "value", 0);
+            assertTrue(nanos <= TIME_TO_LIVE.toNanos());
+            assertTrue(nanos >= TIME_TO_LIVE.toNanos() * 8 / 10);
+        }
+    }
+
+    @Test
+    void expireAfterRead_KeepsRemainingTime() {
+        JitteredExpiry expiry = new JitteredExpiry(TIME_TO_LIVE, 20);
+
+        assertEquals(1234, expiry.expireAfterRead("key", "value", 0, 1234));
+    }
+
+    @Test
+    void constructor_RejectsJitterOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new JitteredExpiry(TIME_TO_LIVE, 101));
+        assertThrows(IllegalArgumentException.class, () -> new JitteredExpiry(TIME_TO_LIVE, -1));
+    }
+
+    @Test
+    void reloadsOfEntriesWrittenTogether_AreSpreadOut() {
+        assertEquals(KEYS, peakReloadsPerSecond(0));
+
+        int peak = peakReloadsPerSecond(20);
+        // 20% of five minutes spreads the reloads over a minute, about 3 a second on average.
+        assertTrue(peak <= 15, "peak reloads per second: " + peak);
+    }
+
+    /**
+     * Writes every key at once, then reads each key once a simulated second, reloading it when it has expired, and
+     * returns the most reloads that happened within one second.
+     */
+    private static int peakReloadsPerSecond(int jitterPercent) {
+        AtomicLong nanos = new AtomicLong();
+        Ticker ticker = nanos::get;
+        Cache<Object, Object> cache = Caffeine.newBuilder()
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .expireAfter(new JitteredExpiry(TIME_TO_LIVE, jitterPercent, new Random(42)::nextDouble))
+                .build();
+        for (int key = 0; key < KEYS; key++) {
+            cache.put(key, "value");
+        }
+
+        int peak = 0;
+        int total = 0;
+        for (long second = 1; second <= TIME_TO_LIVE.toSeconds(); second++) {
+            nanos.set(TimeUnit.SECONDS.toNanos(second));
+            int reloads = 0;
+            for (int key = 0; key < KEYS; key++) {
+                if (cache.getIfPresent(key) == null) {
+                    cache.put(key, "value");
+                    reloads++;
+                }
+            }
+            peak = Math.max(peak, reloads);
+            total += reloads;
+        }
+        assertEquals(KEYS, total);
+        return peak;
+    }
+}
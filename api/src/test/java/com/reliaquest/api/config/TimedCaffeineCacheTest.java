@@ -0,0 +1,77 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TimedCaffeineCacheTest {
+
+    private static final long LOAD_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    @Test
+    void shouldRefreshEarly_BecomesLikelierCloseToExpiry() {
+        assertFalse(TimedCaffeineCache.shouldRefreshEarly(TimeUnit.MINUTES.toNanos(1), LOAD_NANOS, 1.0, 0.5));
+        assertTrue(TimedCaffeineCache.shouldRefreshEarly(TimeUnit.MILLISECONDS.toNanos(100), LOAD_NANOS, 1.0, 0.5));
+        assertTrue(TimedCaffeineCache.shouldRefreshEarly(0, LOAD_NANOS, 1.0, 0.99));
+    }
+
+    @Test
+    void lookup_ReloadsBeforeExpiryWhileOtherReadersStillHit() {
+        AtomicLong nanos = new AtomicLong();
+        TimedCaffeineCache cache = new TimedCaffeineCache(
+                CacheConfig.ALL_EMPLOYEES_CACHE,
+                Caffeine.newBuilder()
+                        .ticker(nanos::get)
+                        .executor(Runnable::run)
+                        .expireAfter(new JitteredExpiry(Duration.ofMinutes(1), 0))
+                        .build(),
+                false,
+                1.0,
+                new Random(42)::nextDouble);
+        cache.getNativeCache().put("all", "roster");
+        cache.recordLoad(LOAD_NANOS);
+
+        // One read every 10ms until the first reader is told to reload.
+        long step = TimeUnit.MILLISECONDS.toNanos(10);
+        int hits = 0;
+        while (cache.get("all") != null) {
+            hits++;
+            nanos.addAndGet(step);
+        }
+
+        long expiresAt = TimeUnit.MINUTES.toNanos(1);
+        assertTrue(nanos.get() < expiresAt, "reloaded at " + nanos.get());
+        assertTrue(nanos.get() > expiresAt - 20 * LOAD_NANOS, "reloaded at " + nanos.get());
+        assertTrue(hits > 1000);
+        assertNotNull(cache.getNativeCache().getIfPresent("all"));
+    }
+
+    @Test
+    void put_RecordsLoadTimeOfMissOnAnotherThread() throws Exception {
+        TimedCaffeineCache cache = new TimedCaffeineCache(
+                CacheConfig.ALL_EMPLOYEES_CACHE, Caffeine.newBuilder().build(), false, 1.0);
+
+        assertNull(cache.get("all"));
+        Thread.sleep(5);
+        CompletableFuture.runAsync(() -> cache.put("all", "roster")).get(5, TimeUnit.SECONDS);
+
+        assertTrue(cache.averageLoadNanos() >= TimeUnit.MILLISECONDS.toNanos(5), "" + cache.averageLoadNanos());
+    }
+
+    @Test
+    void put_WithoutMissDoesNotCountAsLoad() {
+        TimedCaffeineCache cache = new TimedCaffeineCache(
+                CacheConfig.ALL_EMPLOYEES_CACHE, Caffeine.newBuilder().build(), false, 1.0);
+
+        assertNull(cache.get("failed"));
+        cache.put("all", "roster");
+
+        assertEquals(0, cache.averageLoadNanos());
+    }
+}
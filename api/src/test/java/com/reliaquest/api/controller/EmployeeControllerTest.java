@@ -14,6 +14,7 @@ import com.reliaquest.api.service.CachedEmployeeService;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -78,6 +79,15 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.message").value("Service error"));
     }
 
+    @Test
+    void getAllEmployees_IncludesServerTiming() throws Exception {
+        when(cachedEmployeeService.getAllEmployees()).thenReturn(Collections.emptyList());
+
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", Matchers.startsWith("app;dur=")));
+    }
+
     @Test
     void getEmployeesByNameSearch_Success() throws Exception {
         List<Employee> employees = Arrays.asList(createEmployee("1", "Soumadipta Roy", 50000));
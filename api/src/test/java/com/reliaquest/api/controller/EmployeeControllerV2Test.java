@@ -0,0 +1,192 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.api.deadline.DeadlineFilter;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.service.AsyncEmployeeService;
+import com.reliaquest.api.writequeue.WriteOperation;
+import com.reliaquest.api.writequeue.WriteQueue;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(EmployeeControllerV2.class)
+class EmployeeControllerV2Test {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AsyncEmployeeService asyncEmployeeService;
+
+    @MockBean
+    private WriteQueue writeQueue;
+
+    @Test
+    void getAllEmployees_CompletesAsynchronously() throws Exception {
+        CompletableFuture<List<Employee>> pending = new CompletableFuture<>();
+        when(asyncEmployeeService.getAllEmployees()).thenReturn(pending);
+
+        MvcResult result = mockMvc.perform(get("/api/v2/employee"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        pending.complete(List.of(Employee.builder().id("1").employeeName("Soumadipta Roy").build()));
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee_name").value("Soumadipta Roy"));
+    }
+
+    @Test
+    void getEmployeeById_NotFound() throws Exception {
+        when(asyncEmployeeService.getEmployeeById("404"))
+                .thenReturn(CompletableFuture.failedFuture(new EmployeeNotFoundException("Employee not found: 404")));
+
+        MvcResult result = mockMvc.perform(get("/api/v2/employee/404"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Employee not found"));
+    }
+
+    @Test
+    void getHighestSalary_DeadlineExceeded() throws Exception {
+        when(asyncEmployeeService.getHighestSalaryOfEmployees())
+                .thenReturn(CompletableFuture.failedFuture(new DeadlineExceededException("Deadline exceeded")));
+
+        MvcResult result = mockMvc.perform(get("/api/v2/employee/highestSalary")
+                        .header(DeadlineFilter.REQUEST_TIMEOUT, "100"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.error").value("Deadline exceeded"));
+    }
+
+    @Test
+    void createEmployee_InvalidInput() throws Exception {
+        mockMvc.perform(post("/api/v2/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation failed"));
+    }
+
+    @Test
+    void createEmployee_RespondAsync_QueuesAndReturnsAccepted() throws Exception {
+        WriteOperation operation = new WriteOperation(
+                "5f0c4bb0-6a0e-4a53-9d56-0d3c1f3b9e11",
+                1,
+                WriteOperation.Type.CREATE,
+                WriteOperation.Status.PENDING,
+                CreateEmployeeRequest.builder().name("New Hire").build(),
+                null,
+                "New Hire",
+                0,
+                null,
+                Instant.now(),
+                null);
+        when(writeQueue.create(any())).thenReturn(operation);
+
+        mockMvc.perform(post("/api/v2/employee")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"New Hire\",\"salary\":50000,\"age\":30,\"title\":\"Engineer\"}"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v2/employee/operations/" + operation.id()))
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    void deleteEmployeeById_RespondAsyncAmongOtherPreferences_IsQueued() throws Exception {
+        WriteOperation operation = new WriteOperation(
+                "9d1e2f3a-4b5c-4d6e-8f70-8192a3b4c5d6",
+                1,
+                WriteOperation.Type.DELETE,
+                WriteOperation.Status.PENDING,
+                null,
+                "1",
+                null,
+                0,
+                null,
+                Instant.now(),
+                null);
+        when(writeQueue.delete("1")).thenReturn(operation);
+
+        mockMvc.perform(delete("/api/v2/employee/1").header("Prefer", "return=minimal, Respond-Async, wait=10"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Preference-Applied", "respond-async"));
+    }
+
+    @Test
+    void deleteEmployeeById_OtherPreference_WaitsForUpstream() throws Exception {
+        when(asyncEmployeeService.deleteEmployeeById("1"))
+                .thenReturn(CompletableFuture.completedFuture("Soumadipta Roy"));
+
+        MvcResult result = mockMvc.perform(delete("/api/v2/employee/1").header("Prefer", "wait=10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Soumadipta Roy"));
+        verifyNoInteractions(writeQueue);
+    }
+
+    @Test
+    void prefersRespondAsync_ParsesPreferenceList() {
+        assertTrue(EmployeeControllerV2.prefersRespondAsync("respond-async"));
+        assertTrue(EmployeeControllerV2.prefersRespondAsync("respond-async, wait=10"));
+        assertTrue(EmployeeControllerV2.prefersRespondAsync("wait=10,RESPOND-ASYNC"));
+        assertTrue(EmployeeControllerV2.prefersRespondAsync(" respond-async ;foo=bar"));
+        assertFalse(EmployeeControllerV2.prefersRespondAsync("return=respond-async"));
+        assertFalse(EmployeeControllerV2.prefersRespondAsync("respond-asynchronously"));
+    }
+
+    @Test
+    void getOperation_ReportsOutcomeOrNotFound() throws Exception {
+        WriteOperation deleted = new WriteOperation(
+                "0b6f3c58-2f44-4f53-8a8e-5d1d6a3f0c22",
+                2,
+                WriteOperation.Type.DELETE,
+                WriteOperation.Status.SUCCEEDED,
+                null,
+                "1",
+                "Soumadipta Roy",
+                1,
+                null,
+                Instant.now(),
+                Instant.now());
+        when(writeQueue.find(deleted.id())).thenReturn(Optional.of(deleted));
+        when(writeQueue.find("unknown")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v2/employee/operations/" + deleted.id()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.employeeName").value("Soumadipta Roy"));
+        mockMvc.perform(get("/api/v2/employee/operations/unknown")).andExpect(status().isNotFound());
+    }
+}
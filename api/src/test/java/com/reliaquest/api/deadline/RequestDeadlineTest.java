@@ -0,0 +1,86 @@
+package com.reliaquest.api.deadline;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.metrics.MeteredSleeper;
+import com.reliaquest.api.metrics.UpstreamMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestDeadlineTest {
+
+    private final DeadlineFilter filter = new DeadlineFilter(Duration.ofSeconds(60), Duration.ofMinutes(3));
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.end();
+    }
+
+    @Test
+    void timeoutOf_PrefersHeaderCappedAtMaximum() {
+        assertEquals(Duration.ofSeconds(60), filter.timeoutOf(null));
+        assertEquals(Duration.ofMillis(2500), filter.timeoutOf("2500"));
+        assertEquals(Duration.ofMinutes(3), filter.timeoutOf("3600000"));
+        assertEquals(Duration.ZERO, filter.timeoutOf("-5"));
+        assertEquals(Duration.ofSeconds(60), filter.timeoutOf("soon"));
+    }
+
+    @Test
+    void filter_SetsDeadlineForTheRequestOnly() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.addHeader(DeadlineFilter.REQUEST_TIMEOUT, "5000");
+        FilterChain chain = mock(FilterChain.class);
+        doAnswer(invocation -> {
+                    Duration remaining = RequestDeadline.current().remaining();
+                    assertTrue(remaining.compareTo(Duration.ofMillis(5000)) <= 0, "remaining " + remaining);
+                    assertTrue(remaining.compareTo(Duration.ofMillis(4000)) > 0, "remaining " + remaining);
+                    return null;
+                })
+                .when(chain)
+                .doFilter(any(), any());
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        verify(chain).doFilter(any(), any());
+        assertNull(RequestDeadline.current());
+    }
+
+    @Test
+    void capMillis_ShrinksTimeoutsToRemainingBudget() {
+        assertEquals(30_000, RequestDeadline.capMillis(30_000));
+
+        RequestDeadline.begin(Duration.ofSeconds(2));
+        int capped = RequestDeadline.capMillis(30_000);
+        assertTrue(capped <= 2000 && capped > 1000, "capped to " + capped);
+        assertEquals(500, RequestDeadline.capMillis(500));
+
+        RequestDeadline.begin(Duration.ZERO);
+        assertEquals(1, RequestDeadline.capMillis(30_000));
+    }
+
+    @Test
+    void check_FailsOnceExpired() {
+        RequestDeadline.check("getAllEmployees");
+
+        RequestDeadline.begin(Duration.ZERO);
+        assertTrue(RequestDeadline.current().expired());
+        assertThrows(DeadlineExceededException.class, () -> RequestDeadline.check("getAllEmployees"));
+    }
+
+    @Test
+    void meteredSleeper_SkipsBackoffThatOutlastsDeadline() {
+        MeteredSleeper sleeper = new MeteredSleeper(new UpstreamMetrics(new SimpleMeterRegistry()));
+        RequestDeadline.begin(Duration.ofMillis(500));
+
+        long start = System.nanoTime();
+        assertThrows(DeadlineExceededException.class, () -> sleeper.sleep(20_000));
+        assertTrue(System.nanoTime() - start < Duration.ofMillis(500).toNanos());
+    }
+}
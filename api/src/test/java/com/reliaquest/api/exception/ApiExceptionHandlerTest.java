@@ -51,6 +51,39 @@ class ApiExceptionHandlerTest {
         assertEquals(errorMessage, response.getBody().get("message"));
     }
 
+    @Test
+    void handleDeadlineExceeded_ShouldReturn504() {
+        DeadlineExceededException exception = new DeadlineExceededException("Deadline exceeded before getAllEmployees");
+
+        ResponseEntity<Map<String, String>> response = exceptionHandler.handleDeadlineExceeded(exception);
+
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Deadline exceeded", response.getBody().get("error"));
+    }
+
+    @Test
+    void handleBulkheadFull_ShouldReturn503WithRetryAfter() {
+        BulkheadFullException exception = new BulkheadFullException("The write bulkhead is full");
+
+        ResponseEntity<Map<String, String>> response = exceptionHandler.handleBulkheadFull(exception);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+        assertEquals("The write bulkhead is full", response.getBody().get("message"));
+    }
+
+    @Test
+    void handleWriteQueueFull_ShouldReturn503WithRetryAfter() {
+        WriteQueueFullException exception = new WriteQueueFullException("The write queue is full (1000 pending)");
+
+        ResponseEntity<Map<String, String>> response = exceptionHandler.handleWriteQueueFull(exception);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("60", response.getHeaders().getFirst("Retry-After"));
+        assertEquals("Too busy", response.getBody().get("error"));
+    }
+
     @Test
     void handleValidationExceptions_ShouldReturn400WithValidationErrors() {
         BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "testObject");
@@ -0,0 +1,91 @@
+package com.reliaquest.api.invalidation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DirectoryInvalidationBusTest {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void publish_DeliversToPeersButNotToPublisher() throws Exception {
+        Employee employee = Employee.builder()
+                .id("42")
+                .employeeName("Soumadipta Roy")
+                .employeeSalary(50000)
+                .build();
+        List<CacheChange> publisherReceived = new CopyOnWriteArrayList<>();
+        List<CacheChange> peerReceived = new CopyOnWriteArrayList<>();
+
+        try (DirectoryInvalidationBus publisher = bus(Duration.ofMinutes(1));
+                DirectoryInvalidationBus peer = bus(Duration.ofMinutes(1))) {
+            publisher.subscribe(publisherReceived::add);
+            peer.subscribe(peerReceived::add);
+
+            publisher.publish(CacheChange.created(employee));
+            publisher.publish(CacheChange.deleted("7"));
+
+            awaitSize(peerReceived, 2);
+            Thread.sleep(5 * POLL_INTERVAL.toMillis());
+        }
+
+        assertEquals(List.of(CacheChange.created(employee), CacheChange.deleted("7")), peerReceived);
+        assertTrue(publisherReceived.isEmpty());
+    }
+
+    @Test
+    void start_SkipsChangesPublishedEarlier() throws Exception {
+        List<CacheChange> received = new CopyOnWriteArrayList<>();
+        try (DirectoryInvalidationBus publisher = bus(Duration.ofMinutes(1))) {
+            publisher.publish(CacheChange.deleted("7"));
+            try (DirectoryInvalidationBus late = bus(Duration.ofMinutes(1))) {
+                late.subscribe(received::add);
+                publisher.publish(CacheChange.deleted("8"));
+
+                awaitSize(received, 1);
+            }
+        }
+
+        assertEquals(List.of(CacheChange.deleted("8")), received);
+    }
+
+    @Test
+    void poll_DeletesExpiredChanges() throws Exception {
+        try (DirectoryInvalidationBus bus = bus(Duration.ZERO)) {
+            bus.publish(CacheChange.deleted("7"));
+            Thread.sleep(5);
+            bus.poll();
+
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(0, files.count());
+            }
+        }
+    }
+
+    private DirectoryInvalidationBus bus(Duration retention) throws Exception {
+        return new DirectoryInvalidationBus(objectMapper, directory, POLL_INTERVAL, retention);
+    }
+
+    private static void awaitSize(List<?> list, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (list.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(size, list.size());
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.invalidation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.CacheConfig;
+import com.reliaquest.api.config.CachePolicyProperties;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.CachedEmployeeService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+class PeerCacheUpdaterTest {
+
+    private final Employee existing = employee("1", "Soumadipta Roy");
+    private final Employee created = employee("2", "Somantika Sarkar");
+
+    private CacheManager cacheManager;
+    private PeerCacheUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CacheConfig().cacheManager(new CachePolicyProperties());
+        updater = new PeerCacheUpdater(cacheManager, new NoOpInvalidationBus());
+        cache(CacheConfig.ALL_EMPLOYEES_CACHE).put(CachedEmployeeService.ALL_EMPLOYEES_KEY, List.of(existing));
+        cache(CacheConfig.EMPLOYEE_SEARCH_CACHE).put("getEmployeesByNameSearch:[roy]", List.of(existing));
+        cache(CacheConfig.SALARY_CALCULATIONS_CACHE).put("highestSalary", 50000);
+    }
+
+    @Test
+    void apply_Created_AppendsToRosterAndDropsDerivedResults() {
+        cache(CacheConfig.EMPLOYEE_NOT_FOUND_CACHE).put("2", Boolean.TRUE);
+
+        updater.apply(CacheChange.created(created));
+
+        assertEquals(List.of(existing, created), roster());
+        assertEquals(created, cache(CacheConfig.EMPLOYEE_BY_ID_CACHE).get("2").get());
+        assertNull(cache(CacheConfig.EMPLOYEE_NOT_FOUND_CACHE).get("2"));
+        assertNull(cache(CacheConfig.EMPLOYEE_SEARCH_CACHE).get("getEmployeesByNameSearch:[roy]"));
+        assertNull(cache(CacheConfig.SALARY_CALCULATIONS_CACHE).get("highestSalary"));
+    }
+
+    @Test
+    void apply_CreatedAlreadyInRoster_KeepsRoster() {
+        List<Employee> roster = List.of(existing, created);
+        cache(CacheConfig.ALL_EMPLOYEES_CACHE).put(CachedEmployeeService.ALL_EMPLOYEES_KEY, roster);
+
+        updater.apply(CacheChange.created(created));
+
+        assertSame(roster, roster());
+    }
+
+    @Test
+    void apply_Deleted_RemovesFromRosterAndById() {
+        cache(CacheConfig.EMPLOYEE_BY_ID_CACHE).put("1", existing);
+
+        updater.apply(CacheChange.deleted("1"));
+
+        assertEquals(List.of(), roster());
+        assertNull(cache(CacheConfig.EMPLOYEE_BY_ID_CACHE).get("1"));
+        assertNull(cache(CacheConfig.SALARY_CALCULATIONS_CACHE).get("highestSalary"));
+    }
+
+    private Object roster() {
+        return cache(CacheConfig.ALL_EMPLOYEES_CACHE)
+                .get(CachedEmployeeService.ALL_EMPLOYEES_KEY)
+                .get();
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private static Employee employee(String id, String name) {
+        return Employee.builder().id(id).employeeName(name).employeeSalary(50000).build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.api.jfr;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.CacheConfig;
+import com.reliaquest.api.config.CachePolicyProperties;
+import com.reliaquest.api.metrics.MeteredSleeper;
+import com.reliaquest.api.metrics.UpstreamMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void cacheAndBackoffEvents_AreRecorded() throws Exception {
+        CacheManager cacheManager = new CacheConfig().cacheManager(new CachePolicyProperties());
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEE_BY_ID_CACHE);
+        Path file = tempDir.resolve("events.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(CacheMissEvent.class);
+            recording.enable(CacheLoadEvent.class);
+            recording.enable(RetryBackoffEvent.class);
+            recording.start();
+
+            assertNull(cache.get("42"));
+            cache.put("42", "Soumadipta Roy");
+            assertNotNull(cache.get("42"));
+            new MeteredSleeper(new UpstreamMetrics(new SimpleMeterRegistry())).sleep(1);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> misses = eventsNamed(events, "com.reliaquest.api.CacheMiss");
+        assertEquals(1, misses.size());
+        assertEquals(CacheConfig.EMPLOYEE_BY_ID_CACHE, misses.get(0).getString("cache"));
+        assertEquals("42", misses.get(0).getString("key"));
+
+        List<RecordedEvent> loads = eventsNamed(events, "com.reliaquest.api.CacheLoad");
+        assertEquals(1, loads.size());
+        assertTrue(loads.get(0).getLong("estimatedBytes") > 0);
+
+        List<RecordedEvent> backoffs = eventsNamed(events, "com.reliaquest.api.RetryBackoff");
+        assertEquals(1, backoffs.size());
+        assertEquals(1, backoffs.get(0).getLong("backOffPeriod"));
+    }
+
+    @Test
+    void employeeApiPreset_EnablesDomainEvents() throws IOException, ParseException {
+        Configuration configuration;
+        try (InputStream in = getClass().getResourceAsStream("/jfr/employee-api.jfc")) {
+            assertNotNull(in);
+            configuration = Configuration.create(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+
+        Map<String, String> settings = configuration.getSettings();
+        for (String event : List.of("UpstreamExchange", "RetryBackoff", "CacheMiss", "CacheLoad", "SnapshotRebuild")) {
+            assertEquals("true", settings.get("com.reliaquest.api." + event + "#enabled"), event);
+        }
+    }
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+}
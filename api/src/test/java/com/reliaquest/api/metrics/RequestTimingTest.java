@@ -0,0 +1,74 @@
+package com.reliaquest.api.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTiming.end();
+    }
+
+    @Test
+    void record_OutsideRequest_IsIgnored() {
+        RequestTiming.record(RequestTiming.Phase.UPSTREAM, System.nanoTime());
+
+        assertNull(RequestTiming.current());
+    }
+
+    @Test
+    void toServerTiming_ListsRecordedPhasesWithCounts() {
+        RequestTiming timing = RequestTiming.begin();
+        RequestTiming.record(RequestTiming.Phase.CACHE, System.nanoTime());
+        RequestTiming.record(RequestTiming.Phase.UPSTREAM, System.nanoTime() - 2_500_000);
+        RequestTiming.record(RequestTiming.Phase.UPSTREAM, System.nanoTime() - 1_000_000);
+
+        assertSame(timing, RequestTiming.current());
+        assertEquals(2, timing.count(RequestTiming.Phase.UPSTREAM));
+        assertTrue(timing.nanos(RequestTiming.Phase.UPSTREAM) >= 3_500_000);
+
+        String header = timing.toServerTiming();
+        assertTrue(
+                header.matches("cache;dur=\\d+\\.\\d{3}, upstream;desc=\"2\";dur=\\d+\\.\\d{3}, app;dur=\\d+\\.\\d{3}"),
+                header);
+        assertFalse(header.contains("backoff"));
+    }
+
+    @Test
+    void begin_ResetsPreviousRequest() {
+        RequestTiming.begin();
+        RequestTiming.record(RequestTiming.Phase.SEARCH, System.nanoTime());
+        RequestTiming.end();
+
+        RequestTiming timing = RequestTiming.begin();
+
+        assertEquals(0, timing.count(RequestTiming.Phase.SEARCH));
+        assertEquals(0, timing.encodeNanos());
+        assertTrue(timing.toServerTiming().startsWith("app;dur="));
+    }
+
+    @Test
+    void add_MergesPhasesRecordedOnAnotherThread() throws Exception {
+        RequestTiming timing = RequestTiming.begin();
+        RequestTiming.record(RequestTiming.Phase.UPSTREAM, System.nanoTime());
+        RequestTiming.Snapshot[] worker = new RequestTiming.Snapshot[1];
+        Thread thread = new Thread(() -> {
+            RequestTiming workerTiming = RequestTiming.begin();
+            RequestTiming.record(RequestTiming.Phase.UPSTREAM, System.nanoTime() - 1_000_000);
+            RequestTiming.record(RequestTiming.Phase.QUEUE, System.nanoTime());
+            worker[0] = workerTiming.snapshot();
+            RequestTiming.end();
+        });
+        thread.start();
+        thread.join();
+
+        RequestTiming.add(worker[0]);
+
+        assertEquals(2, timing.count(RequestTiming.Phase.UPSTREAM));
+        assertTrue(timing.nanos(RequestTiming.Phase.UPSTREAM) >= 1_000_000);
+        assertEquals(1, timing.count(RequestTiming.Phase.QUEUE));
+    }
+}
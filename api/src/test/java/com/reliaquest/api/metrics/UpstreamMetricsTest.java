@@ -0,0 +1,134 @@
+package com.reliaquest.api.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.context.RetryContextSupport;
+import org.springframework.retry.support.RetrySynchronizationManager;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class UpstreamMetricsTest {
+
+    private static final String LABEL =
+            "public java.util.List com.reliaquest.api.service.EmployeeService.getAllEmployees()";
+
+    private SimpleMeterRegistry meterRegistry;
+    private UpstreamMetrics upstreamMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        upstreamMetrics = new UpstreamMetrics(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RetrySynchronizationManager.clear();
+    }
+
+    @Test
+    void recordExchange_OutsideRetry_TagsFirstAttempt() {
+        upstreamMetrics.recordExchange(upstreamMetrics.start(), "getAllEmployees", HttpStatus.OK);
+
+        Timer timer = meterRegistry
+                .get(UpstreamMetrics.REQUESTS)
+                .tags("operation", "getAllEmployees", "status", "200", "attempt", "1")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void recordExchange_DuringRetry_TagsAttemptAndFailure() {
+        RetryContextSupport context = retryContext();
+        context.setAttribute(RetryContext.NAME, LABEL);
+        context.registerThrowable(new RuntimeException());
+        RetrySynchronizationManager.register(context);
+
+        upstreamMetrics.recordExchange(upstreamMetrics.start(), "getAllEmployees", HttpStatus.TOO_MANY_REQUESTS);
+        upstreamMetrics.recordExchange(
+                upstreamMetrics.start(), "getAllEmployees", new ResourceAccessException("Connection refused"));
+
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(UpstreamMetrics.REQUESTS)
+                        .tags("status", "429", "attempt", "2")
+                        .timer()
+                        .count());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(UpstreamMetrics.REQUESTS)
+                        .tags("status", "ResourceAccessException", "attempt", "2")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void operationOf_StripsSignature() {
+        RetryContext context = retryContext();
+        context.setAttribute(RetryContext.NAME, LABEL);
+
+        assertEquals("getAllEmployees", UpstreamMetrics.operationOf(context));
+        assertEquals(UpstreamMetrics.UNKNOWN_OPERATION, UpstreamMetrics.operationOf(retryContext()));
+        assertEquals(UpstreamMetrics.UNKNOWN_OPERATION, UpstreamMetrics.operationOf(null));
+    }
+
+    @Test
+    void retryListener_CountsFailuresAndAttempts() {
+        UpstreamRetryListener listener = new UpstreamRetryListener(upstreamMetrics);
+        RetryContextSupport context = retryContext();
+        context.setAttribute(RetryContext.NAME, LABEL);
+        HttpClientErrorException rateLimited = HttpClientErrorException.create(
+                HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+
+        context.registerThrowable(rateLimited);
+        listener.onError(context, null, rateLimited);
+        context.registerThrowable(rateLimited);
+        listener.onError(context, null, rateLimited);
+        listener.close(context, null, null);
+
+        assertEquals(
+                2,
+                meterRegistry
+                        .get(UpstreamMetrics.ATTEMPT_FAILURES)
+                        .tags("operation", "getAllEmployees", "exception", "TooManyRequests")
+                        .counter()
+                        .count());
+        DistributionSummary attempts = meterRegistry
+                .get(UpstreamMetrics.ATTEMPTS)
+                .tags("operation", "getAllEmployees", "outcome", "success")
+                .summary();
+        assertEquals(1, attempts.count());
+        assertEquals(3, attempts.totalAmount());
+    }
+
+    @Test
+    void meteredSleeper_RecordsBackoffAgainstOperation() throws InterruptedException {
+        RetryContext context = retryContext();
+        context.setAttribute(RetryContext.NAME, LABEL);
+        RetrySynchronizationManager.register(context);
+
+        new MeteredSleeper(upstreamMetrics).sleep(5);
+
+        Timer backoff = meterRegistry
+                .get(UpstreamMetrics.BACKOFF)
+                .tags("operation", "getAllEmployees")
+                .timer();
+        assertEquals(1, backoff.count());
+        assertEquals(5, backoff.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    private static RetryContextSupport retryContext() {
+        return new RetryContextSupport(null);
+    }
+}
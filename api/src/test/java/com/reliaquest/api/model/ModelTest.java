@@ -2,6 +2,9 @@ package com.reliaquest.api.model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -46,6 +49,51 @@ class ModelTest {
         assertEquals("somantika.srkr@company.com", employee.getEmployeeEmail());
     }
 
+    @Test
+    void employee_Email_KeptAsLocalPartAndSharedDomain() {
+        Employee first = Employee.builder().employeeEmail("soumadipta.roy@company.com").build();
+        Employee second = new Employee();
+        second.setEmployeeEmail(new String("somantika.srkr@company.com"));
+
+        assertEquals("soumadipta.roy", first.getEmailLocalPart());
+        assertSame(first.getEmailDomain(), second.getEmailDomain());
+        assertEquals("somantika.srkr@company.com", second.getEmployeeEmail());
+
+        second.setEmployeeEmail("no-domain");
+        assertEquals("no-domain", second.getEmployeeEmail());
+        second.setEmployeeEmail(null);
+        assertNull(second.getEmployeeEmail());
+    }
+
+    @Test
+    void employee_Decode_SharesTitlesWithinOneRoster() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String json = "[{\"id\":\"1\",\"employee_title\":\"Developer\",\"employee_email\":\"a@company.com\"},"
+                + "{\"id\":\"2\",\"employee_title\":\"Developer\",\"employee_email\":\"b@company.com\"}]";
+
+        List<Employee> first = objectMapper.readValue(json, new TypeReference<List<Employee>>() {});
+        List<Employee> second = objectMapper.readValue(json, new TypeReference<List<Employee>>() {});
+
+        assertSame(first.get(0).getEmployeeTitle(), first.get(1).getEmployeeTitle());
+        assertNotSame(first.get(0).getEmployeeTitle(), second.get(0).getEmployeeTitle());
+        assertSame(first.get(0).getEmailDomain(), second.get(1).getEmailDomain());
+        assertEquals("b@company.com", first.get(1).getEmployeeEmail());
+        String encoded = objectMapper.writeValueAsString(first);
+        assertTrue(encoded.contains("\"employee_email\":\"b@company.com\""));
+        assertFalse(encoded.contains("emailDomain"));
+    }
+
+    @Test
+    void stringDictionary_StopsGrowingWhenFull() {
+        StringDictionary dictionary = new StringDictionary(1);
+        String developer = dictionary.canonical("Developer");
+
+        assertSame(developer, dictionary.canonical(new String("Developer")));
+        String manager = new String("Manager");
+        assertSame(manager, dictionary.canonical(manager));
+        assertEquals(1, dictionary.size());
+    }
+
     @Test
     void createEmployeeRequest_BuilderPattern_ShouldCreateRequest() {
         CreateEmployeeRequest request = CreateEmployeeRequest.builder()
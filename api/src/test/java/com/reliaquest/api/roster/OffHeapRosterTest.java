@@ -0,0 +1,120 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class OffHeapRosterTest {
+
+    private static final String[] NAMES = {
+        "Soumadipta Roy", "Somantika Sarkar", "Vishal Chand", "ÉMILE Ødegård", null
+    };
+
+    @Test
+    void copyOf_RoundTripsEveryField() {
+        List<Employee> employees = List.of(
+                employee("1", "Soumadipta Roy", 50000),
+                Employee.builder().id("2").build(),
+                employee("3", "Zoë Ünal", null));
+
+        OffHeapRoster roster = OffHeapRoster.copyOf(employees);
+
+        assertEquals(employees, roster);
+        assertEquals(3, roster.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> roster.get(3));
+        assertTrue(roster.offHeapBytes() > 0);
+    }
+
+    @Test
+    void copyOf_EmptyRoster() {
+        OffHeapRoster roster = OffHeapRoster.copyOf(List.of());
+
+        assertTrue(roster.isEmpty());
+        assertEquals(0, roster.highestSalary());
+        assertEquals(List.of(), roster.topEarnerNames(10));
+        assertNull(roster.findById("1"));
+    }
+
+    @Test
+    void queries_MatchTheHeapImplementation() {
+        List<Employee> employees = randomRoster(2_000);
+        OffHeapRoster roster = OffHeapRoster.copyOf(employees);
+
+        for (String fragment : List.of("roy", "SARKAR", "a", "émile ø", "x", "")) {
+            assertEquals(heapSearch(employees, fragment), roster.searchByName(fragment), fragment);
+        }
+        assertEquals(
+                employees.stream()
+                        .filter(e -> e.getEmployeeSalary() != null)
+                        .mapToInt(Employee::getEmployeeSalary)
+                        .max()
+                        .orElse(0),
+                roster.highestSalary());
+        assertEquals(
+                employees.stream()
+                        .filter(e -> e.getEmployeeSalary() != null && e.getEmployeeName() != null)
+                        .sorted(Comparator.comparing(Employee::getEmployeeSalary, Comparator.reverseOrder()))
+                        .limit(10)
+                        .map(Employee::getEmployeeName)
+                        .toList(),
+                roster.topEarnerNames(10));
+    }
+
+    @Test
+    void findById_UsesIndex() {
+        List<Employee> employees = randomRoster(1_000);
+        OffHeapRoster roster = OffHeapRoster.copyOf(employees);
+
+        for (Employee employee : employees) {
+            assertEquals(employee, roster.findById(employee.getId()));
+        }
+        assertNull(roster.findById("missing"));
+        assertNull(roster.findById(null));
+    }
+
+    private static List<Employee> heapSearch(List<Employee> employees, String fragment) {
+        List<Employee> results = new ArrayList<>();
+        for (Employee employee : employees) {
+            String name = employee.getEmployeeName();
+            if (name != null && containsIgnoreCase(name, fragment)) {
+                results.add(employee);
+            }
+        }
+        return results;
+    }
+
+    private static boolean containsIgnoreCase(String text, String fragment) {
+        for (int i = 0; i <= text.length() - fragment.length(); i++) {
+            if (text.regionMatches(true, i, fragment, 0, fragment.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Employee> randomRoster(int size) {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Integer salary = random.nextInt(10) == 0 ? null : random.nextInt(1_000) * 100;
+            employees.add(employee(String.valueOf(i), NAMES[random.nextInt(NAMES.length)], salary));
+        }
+        return employees;
+    }
+
+    private static Employee employee(String id, String name, Integer salary) {
+        return Employee.builder()
+                .id(id)
+                .employeeName(name)
+                .employeeSalary(salary)
+                .employeeAge(30)
+                .employeeTitle("Developer")
+                .employeeEmail(id + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.service.AllocationMeter.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Guards the bytes allocated per call by cache hits on the hot read paths against the budgets in
+ * {@code allocation-budgets.properties}. The uncached search scan is measured by {@link NameSearchAllocationTest},
+ * away from the mocked {@link EmployeeService} here.
+ */
+@SpringBootTest
+@TestPropertySource(
+        properties = {
+            "employee.api.base-url=http://localhost:8112/api/v1/employee",
+            "logging.level.com.reliaquest.api=INFO",
+            "logging.level.org.springframework.cache=INFO"
+        })
+class AllocationBudgetTest {
+
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 5_000;
+
+    @Autowired
+    private CachedEmployeeService cachedEmployeeService;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @BeforeAll
+    static void setUpMeasurement() {
+        assumeSupported();
+    }
+
+    @Test
+    void cachedGetAllEmployees_StaysWithinBudget() {
+        when(employeeService.getAllEmployees()).thenReturn(roster(100));
+
+        assertWithinBudget("cached.getAllEmployees", () -> cachedEmployeeService.getAllEmployees());
+    }
+
+    @Test
+    void cachedGetEmployeeById_StaysWithinBudget() {
+        when(employeeService.getEmployeeById("42")).thenReturn(employee(42));
+
+        assertWithinBudget("cached.getEmployeeById", () -> cachedEmployeeService.getEmployeeById("42"));
+    }
+
+    @Test
+    void cachedGetEmployeesByNameSearch_StaysWithinBudget() {
+        when(employeeService.getEmployeesByNameSearch("employee 0004")).thenReturn(List.of(employee(42)));
+
+        assertWithinBudget(
+                "cached.getEmployeesByNameSearch",
+                () -> cachedEmployeeService.getEmployeesByNameSearch("employee 0004"));
+    }
+
+    @Test
+    void cachedGetHighestSalaryOfEmployees_StaysWithinBudget() {
+        when(employeeService.getHighestSalaryOfEmployees()).thenReturn(99_000);
+
+        assertWithinBudget(
+                "cached.getHighestSalaryOfEmployees", () -> cachedEmployeeService.getHighestSalaryOfEmployees());
+    }
+
+    @Test
+    void cachedGetTopTenHighestEarningEmployeeNames_StaysWithinBudget() {
+        when(employeeService.getTopTenHighestEarningEmployeeNames()).thenReturn(List.of("Employee 00001"));
+
+        assertWithinBudget(
+                "cached.getTopTenHighestEarningEmployeeNames",
+                () -> cachedEmployeeService.getTopTenHighestEarningEmployeeNames());
+    }
+
+    private static void assertWithinBudget(String name, Supplier<?> call) {
+        AllocationMeter.assertWithinBudget(name, call, WARMUP_CALLS, MEASURED_CALLS);
+    }
+}
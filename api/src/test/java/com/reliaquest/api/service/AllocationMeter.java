@@ -0,0 +1,89 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.reliaquest.api.model.Employee;
+import com.sun.management.ThreadMXBean;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+/**
+ * Checks the bytes a call allocates against its budget in {@code allocation-budgets.properties}. The call is warmed up
+ * first so the JIT has settled, then measured over many calls with the per-thread allocation counter.
+ */
+final class AllocationMeter {
+
+    private static final Properties BUDGETS = loadBudgets();
+
+    private static volatile Object sink;
+
+    private AllocationMeter() {}
+
+    /**
+     * Skips the calling test on JVMs that cannot count allocated bytes per thread.
+     */
+    static void assumeSupported() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    static void assertWithinBudget(String name, Supplier<?> call, int warmupCalls, int measuredCalls) {
+        String budget = BUDGETS.getProperty(name);
+        assertNotNull(budget, "No allocation budget for " + name);
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        for (int i = 0; i < warmupCalls; i++) {
+            sink = call.get();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < measuredCalls; i++) {
+            sink = call.get();
+        }
+        long perCall = (threads.getThreadAllocatedBytes(threadId) - before) / measuredCalls;
+
+        assertNotNull(sink);
+        assertTrue(
+                perCall <= Long.parseLong(budget.trim()),
+                () -> "%s allocated %d bytes per call, budget is %s".formatted(name, perCall, budget));
+    }
+
+    static List<Employee> roster(int size) {
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            employees.add(employee(i));
+        }
+        return employees;
+    }
+
+    static Employee employee(int i) {
+        return Employee.builder()
+                .id(String.valueOf(i))
+                .employeeName("Employee %05d".formatted(i))
+                .employeeSalary(50_000 + i)
+                .employeeAge(20 + i % 45)
+                .employeeTitle("Developer")
+                .employeeEmail("employee%05d@company.com".formatted(i))
+                .build();
+    }
+
+    private static Properties loadBudgets() {
+        Properties budgets = new Properties();
+        try (InputStream in = AllocationMeter.class.getResourceAsStream("/allocation-budgets.properties")) {
+            assertNotNull(in, "allocation-budgets.properties is missing");
+            budgets.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return budgets;
+    }
+}
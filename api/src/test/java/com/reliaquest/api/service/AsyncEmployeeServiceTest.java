@@ -0,0 +1,255 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.bulkhead.UpstreamScheduler;
+import com.reliaquest.api.config.CacheConfig;
+import com.reliaquest.api.config.CachePolicyProperties;
+import com.reliaquest.api.deadline.RequestDeadline;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.EmployeeServiceException;
+import com.reliaquest.api.invalidation.CacheChange;
+import com.reliaquest.api.invalidation.InvalidationBus;
+import com.reliaquest.api.metrics.UpstreamMetrics;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for AsyncEmployeeService against a stubbed upstream.
+ */
+class AsyncEmployeeServiceTest {
+
+    private static final String ROSTER = "{\"data\":[{\"id\":\"1\",\"employee_name\":\"Soumadipta Roy\","
+            + "\"employee_salary\":50000},{\"id\":\"2\",\"employee_name\":\"Somantika Sarkar\","
+            + "\"employee_salary\":60000}]}";
+
+    private static final UpstreamScheduler UNLIMITED = new UpstreamScheduler(0, 1, Map.of(), new SimpleMeterRegistry());
+
+    private final Deque<Mono<ClientResponse>> responses = new ArrayDeque<>();
+    private final AtomicInteger exchanges = new AtomicInteger();
+    private final InvalidationBus invalidationBus = mock(InvalidationBus.class);
+    private ClientRequest lastRequest;
+    private CacheManager cacheManager;
+    private AsyncEmployeeService service;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CacheConfig().cacheManager(new CachePolicyProperties());
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:8112/api/v1/employee")
+                .exchangeFunction(request -> {
+                    exchanges.incrementAndGet();
+                    lastRequest = request;
+                    Mono<ClientResponse> response = responses.poll();
+                    return response != null ? response : Mono.error(new IllegalStateException("unexpected call"));
+                })
+                .build();
+        service = new AsyncEmployeeService(
+                webClient,
+                cacheManager,
+                new UpstreamMetrics(new SimpleMeterRegistry()),
+                invalidationBus,
+                UNLIMITED,
+                false,
+                Duration.ofMillis(1));
+    }
+
+    @Test
+    void getAllEmployees_RetriesThrottledCallsOnTimer() throws Exception {
+        responses.add(Mono.just(status(HttpStatus.TOO_MANY_REQUESTS)));
+        responses.add(Mono.just(status(HttpStatus.SERVICE_UNAVAILABLE)));
+        responses.add(Mono.just(json(ROSTER)));
+
+        List<Employee> employees = service.getAllEmployees().get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, employees.size());
+        assertEquals("Soumadipta Roy", employees.get(0).getEmployeeName());
+        assertEquals(3, exchanges.get());
+    }
+
+    @Test
+    void getAllEmployees_GivesUpAfterMaxAttempts() {
+        for (int i = 0; i < AsyncEmployeeService.MAX_ATTEMPTS; i++) {
+            responses.add(Mono.just(status(HttpStatus.TOO_MANY_REQUESTS)));
+        }
+
+        ExecutionException e = assertThrows(
+                ExecutionException.class, () -> service.getAllEmployees().get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(EmployeeServiceException.class, e.getCause());
+        assertEquals(AsyncEmployeeService.MAX_ATTEMPTS, exchanges.get());
+    }
+
+    @Test
+    void getAllEmployees_RetriesWaitForSharedUpstreamPermit() {
+        UpstreamScheduler scheduler = new UpstreamScheduler(1, 1, Map.of(), new SimpleMeterRegistry());
+        AsyncEmployeeService limited = new AsyncEmployeeService(
+                WebClient.builder()
+                        .baseUrl("http://localhost:8112/api/v1/employee")
+                        .exchangeFunction(request -> {
+                            exchanges.incrementAndGet();
+                            return Mono.just(status(HttpStatus.TOO_MANY_REQUESTS));
+                        })
+                        .build(),
+                cacheManager,
+                new UpstreamMetrics(new SimpleMeterRegistry()),
+                invalidationBus,
+                scheduler,
+                false,
+                Duration.ofMillis(1));
+        RequestDeadline.begin(Duration.ofMillis(300));
+        CompletableFuture<List<Employee>> result;
+        try {
+            result = limited.getAllEmployees();
+        } finally {
+            RequestDeadline.end();
+        }
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(2, TimeUnit.SECONDS));
+
+        // The retry's permit is a second away, past the deadline.
+        assertInstanceOf(DeadlineExceededException.class, e.getCause());
+        assertEquals(1, exchanges.get());
+    }
+
+    @Test
+    void getAllEmployees_AbandonsRetriesAtDeadline() {
+        AsyncEmployeeService slowRetries = new AsyncEmployeeService(
+                WebClient.builder()
+                        .baseUrl("http://localhost:8112/api/v1/employee")
+                        .exchangeFunction(request -> {
+                            exchanges.incrementAndGet();
+                            return Mono.just(status(HttpStatus.TOO_MANY_REQUESTS));
+                        })
+                        .build(),
+                cacheManager,
+                new UpstreamMetrics(new SimpleMeterRegistry()),
+                invalidationBus,
+                UNLIMITED,
+                false,
+                Duration.ofSeconds(10));
+        RequestDeadline.begin(Duration.ofMillis(200));
+        CompletableFuture<List<Employee>> result;
+        try {
+            result = slowRetries.getAllEmployees();
+        } finally {
+            RequestDeadline.end();
+        }
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(2, TimeUnit.SECONDS));
+
+        assertInstanceOf(DeadlineExceededException.class, e.getCause());
+        assertEquals(1, exchanges.get());
+    }
+
+    @Test
+    void concurrentMisses_ShareOneUpstreamCall() throws Exception {
+        responses.add(Mono.just(json(ROSTER)).delayElement(Duration.ofMillis(100)));
+
+        CompletableFuture<List<Employee>> first = service.getAllEmployees();
+        CompletableFuture<Integer> highest = service.getHighestSalaryOfEmployees();
+        CompletableFuture<List<Employee>> search = service.getEmployeesByNameSearch("roy");
+
+        assertEquals(2, first.get(5, TimeUnit.SECONDS).size());
+        assertEquals(60000, highest.get(5, TimeUnit.SECONDS));
+        assertEquals(1, search.get(5, TimeUnit.SECONDS).size());
+        assertEquals(List.of("Somantika Sarkar", "Soumadipta Roy"), service.getTopTenHighestEarningEmployeeNames()
+                .get(5, TimeUnit.SECONDS));
+        assertEquals(1, exchanges.get());
+    }
+
+    @Test
+    void getEmployeeById_RemembersUnknownIds() {
+        responses.add(Mono.just(status(HttpStatus.NOT_FOUND)));
+
+        ExecutionException first =
+                assertThrows(ExecutionException.class, () -> service.getEmployeeById("404").get(5, TimeUnit.SECONDS));
+        ExecutionException second =
+                assertThrows(ExecutionException.class, () -> service.getEmployeeById("404").get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(EmployeeNotFoundException.class, first.getCause());
+        assertInstanceOf(EmployeeNotFoundException.class, second.getCause());
+        assertEquals(1, exchanges.get());
+        assertEquals("/api/v1/employee/404", lastRequest.url().getPath());
+    }
+
+    @Test
+    void createEmployee_EvictsRosterAndPublishes() throws Exception {
+        responses.add(Mono.just(json(ROSTER)));
+        service.getAllEmployees().get(5, TimeUnit.SECONDS);
+        responses.add(Mono.just(json("{\"data\":{\"id\":\"3\",\"employee_name\":\"New Hire\"}}")));
+
+        CreateEmployeeRequest request = new CreateEmployeeRequest();
+        request.setName("New Hire");
+        Employee created = service.createEmployee(request).get(5, TimeUnit.SECONDS);
+
+        assertEquals("3", created.getId());
+        assertEquals(HttpMethod.POST, lastRequest.method());
+        assertNull(cacheManager.getCache(CacheConfig.ALL_EMPLOYEES_CACHE).get(CachedEmployeeService.ALL_EMPLOYEES_KEY));
+        verify(invalidationBus).publish(CacheChange.created(created));
+    }
+
+    @Test
+    void deleteEmployeeById_DeletesByNameOfCachedEmployee() throws Exception {
+        cacheManager
+                .getCache(CacheConfig.EMPLOYEE_BY_ID_CACHE)
+                .put("1", Employee.builder().id("1").employeeName("Soumadipta Roy").build());
+        responses.add(Mono.just(json("{\"data\":true}")));
+
+        String name = service.deleteEmployeeById("1").get(5, TimeUnit.SECONDS);
+
+        assertEquals("Soumadipta Roy", name);
+        assertEquals(HttpMethod.DELETE, lastRequest.method());
+        assertEquals(1, exchanges.get());
+        assertNull(cacheManager.getCache(CacheConfig.EMPLOYEE_BY_ID_CACHE).get("1"));
+        verify(invalidationBus).publish(CacheChange.deleted("1"));
+    }
+
+    @Test
+    void isRetryable_OnlyServerErrorsAndThrottling() {
+        assertTrue(AsyncEmployeeService.isRetryable(status(HttpStatus.TOO_MANY_REQUESTS)
+                .createException()
+                .block()));
+        assertTrue(AsyncEmployeeService.isRetryable(status(HttpStatus.BAD_GATEWAY)
+                .createException()
+                .block()));
+        assertFalse(AsyncEmployeeService.isRetryable(status(HttpStatus.BAD_REQUEST)
+                .createException()
+                .block()));
+        assertFalse(AsyncEmployeeService.isRetryable(new IllegalStateException()));
+    }
+
+    private static ClientResponse status(HttpStatus status) {
+        return ClientResponse.create(status).build();
+    }
+
+    private static ClientResponse json(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+}
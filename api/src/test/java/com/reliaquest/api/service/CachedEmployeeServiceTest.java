@@ -3,15 +3,23 @@ package com.reliaquest.api.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.github.benmanes.caffeine.cache.Policy;
+import com.reliaquest.api.config.CacheConfig;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.invalidation.CacheChange;
+import com.reliaquest.api.invalidation.InvalidationBus;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.test.context.TestPropertySource;
 
 /**
@@ -27,9 +35,17 @@ class CachedEmployeeServiceTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private InvalidationBus invalidationBus;
+
     @Autowired
     private CacheManager cacheManager;
 
+    @BeforeEach
+    void clearCaches() {
+        CacheConfig.CACHE_NAMES.forEach(name -> cacheManager.getCache(name).clear());
+    }
+
     private Employee createEmployee(String id, String name, Integer salary) {
         return Employee.builder()
                 .id(id)
@@ -78,6 +94,58 @@ class CachedEmployeeServiceTest {
         assertNotNull(cache.get("123"));
     }
 
+    @Test
+    void getEmployeeById_CachesNotFound() {
+        String employeeId = "missing-1";
+        when(employeeService.getEmployeeById(employeeId))
+                .thenThrow(new EmployeeNotFoundException("Employee not found: " + employeeId));
+
+        assertThrows(EmployeeNotFoundException.class, () -> cachedEmployeeService.getEmployeeById(employeeId));
+        assertThrows(EmployeeNotFoundException.class, () -> cachedEmployeeService.getEmployeeById(employeeId));
+
+        verify(employeeService, times(1)).getEmployeeById(employeeId);
+        var cache = cacheManager.getCache("employeeNotFound");
+        assertNotNull(cache);
+        assertNotNull(cache.get(employeeId));
+    }
+
+    @Test
+    void createEmployee_EvictsNotFoundEntryForCreatedId() {
+        String employeeId = "missing-2";
+        when(employeeService.getEmployeeById(employeeId))
+                .thenThrow(new EmployeeNotFoundException("Employee not found: " + employeeId));
+        assertThrows(EmployeeNotFoundException.class, () -> cachedEmployeeService.getEmployeeById(employeeId));
+
+        CreateEmployeeRequest request = CreateEmployeeRequest.builder()
+                .name("Vishal Chand")
+                .salary(75000)
+                .age(28)
+                .title("Developer")
+                .build();
+        Employee createdEmployee = createEmployee(employeeId, "Vishal Chand", 75000);
+        when(employeeService.createEmployee(request)).thenReturn(createdEmployee);
+        cachedEmployeeService.createEmployee(request);
+
+        assertNull(cacheManager.getCache("employeeNotFound").get(employeeId));
+        doReturn(createdEmployee).when(employeeService).getEmployeeById(employeeId);
+        assertEquals(createdEmployee, cachedEmployeeService.getEmployeeById(employeeId));
+    }
+
+    @Test
+    void upstreamCalls_RunInTheBulkheadForTheirKindOfWork() {
+        when(employeeService.getEmployeesByNameSearch("Bulkhead"))
+                .thenAnswer(invocation -> List.of(createEmployee("7", Thread.currentThread().getName(), 50000)));
+        when(employeeService.deleteEmployeeById("bulkhead-7")).thenAnswer(invocation -> Thread.currentThread()
+                .getName());
+
+        String readThread =
+                cachedEmployeeService.getEmployeesByNameSearch("Bulkhead").get(0).getEmployeeName();
+        String writeThread = cachedEmployeeService.deleteEmployeeById("bulkhead-7");
+
+        assertTrue(readThread.startsWith("bulkhead-read-"), readThread);
+        assertTrue(writeThread.startsWith("bulkhead-write-"), writeThread);
+    }
+
     @Test
     void getEmployeesByNameSearch_CachesResults() {
         List<Employee> employees = Arrays.asList(createEmployee("1", "Soumadipta Roy", 50000));
@@ -92,6 +160,97 @@ class CachedEmployeeServiceTest {
         verify(employeeService, times(1)).getEmployeesByNameSearch("Soumadipta");
     }
 
+    @Test
+    void getEmployeesByNameSearch_IgnoresCaseInKey() {
+        List<Employee> employees = Arrays.asList(createEmployee("1", "Kasimir Lind", 50000));
+        when(employeeService.getEmployeesByNameSearch("Kasimir")).thenReturn(employees);
+
+        assertEquals(employees, cachedEmployeeService.getEmployeesByNameSearch("Kasimir"));
+        assertEquals(employees, cachedEmployeeService.getEmployeesByNameSearch("KASIMIR"));
+
+        verify(employeeService, times(1)).getEmployeesByNameSearch(anyString());
+    }
+
+    @Test
+    void getEmployeesByNameSearch_RefinementFiltersBroaderResult() {
+        Employee ingrid = createEmployee("1", "Ingrid Holm", 50000);
+        Employee ingram = createEmployee("2", "Ingram Holm", 60000);
+        when(employeeService.getEmployeesByNameSearch("Ingr")).thenReturn(Arrays.asList(ingrid, ingram));
+
+        cachedEmployeeService.getEmployeesByNameSearch("Ingr");
+        List<Employee> refined = cachedEmployeeService.getEmployeesByNameSearch("INGRI");
+
+        assertEquals(List.of(ingrid), refined);
+        verify(employeeService, never()).getEmployeesByNameSearch("INGRI");
+        verify(employeeService, times(1)).getEmployeesByNameSearch(anyString());
+    }
+
+    @Test
+    void getEmployeesByNameSearch_RefinementExpiresWithBroaderResult() {
+        Employee margit = createEmployee("3", "Margit Lund", 55000);
+        when(employeeService.getEmployeesByNameSearch("Marg")).thenReturn(List.of(margit));
+        cachedEmployeeService.getEmployeesByNameSearch("Marg");
+        Policy.VarExpiration<Object, Object> expiry = ((CaffeineCache)
+                        cacheManager.getCache(CacheConfig.EMPLOYEE_SEARCH_CACHE))
+                .getNativeCache()
+                .policy()
+                .expireVariably()
+                .orElseThrow();
+        expiry.setExpiresAfter(CacheConfig.searchKey("getEmployeesByNameSearch", "Marg"), Duration.ofSeconds(2));
+
+        assertEquals(List.of(margit), cachedEmployeeService.getEmployeesByNameSearch("Margi"));
+
+        Duration refinedExpiresAfter = expiry.getExpiresAfter(
+                        CacheConfig.searchKey("getEmployeesByNameSearch", "Margi"))
+                .orElseThrow();
+        assertTrue(refinedExpiresAfter.compareTo(Duration.ofSeconds(2)) <= 0, refinedExpiresAfter.toString());
+        verify(employeeService, never()).getEmployeesByNameSearch("Margi");
+    }
+
+    @Test
+    void getEmployeesByNameSearch_FiltersCachedRoster() {
+        Employee ingrid = createEmployee("1", "Ingrid Holm", 50000);
+        when(employeeService.getAllEmployees())
+                .thenReturn(List.of(ingrid, createEmployee("2", "Somantika Sarkar", 60000)));
+        cachedEmployeeService.getAllEmployees();
+
+        assertEquals(List.of(ingrid), cachedEmployeeService.getEmployeesByNameSearch("holm"));
+
+        verify(employeeService, never()).getEmployeesByNameSearch(anyString());
+    }
+
+    @Test
+    void warmFrom_AnswersRosterSalariesAndSearchesWithoutUpstream() {
+        Employee ingrid = createEmployee("1", "Ingrid Holm", 50000);
+        Employee somantika = createEmployee("2", "Somantika Sarkar", 60000);
+
+        cachedEmployeeService.warmFrom(List.of(ingrid, somantika));
+
+        assertEquals(List.of(ingrid, somantika), cachedEmployeeService.getAllEmployees());
+        assertEquals(60000, cachedEmployeeService.getHighestSalaryOfEmployees());
+        assertEquals(
+                List.of("Somantika Sarkar", "Ingrid Holm"),
+                cachedEmployeeService.getTopTenHighestEarningEmployeeNames());
+        assertEquals(List.of(somantika), cachedEmployeeService.getEmployeesByNameSearch("Sarkar"));
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void refreshAllEmployees_DropsFiguresDerivedFromWarmedRoster() {
+        cachedEmployeeService.warmFrom(List.of(createEmployee("1", "Ingrid Holm", 50000)));
+        cachedEmployeeService.getEmployeesByNameSearch("Holm");
+        Employee ingram = createEmployee("2", "Ingram Holm", 70000);
+        when(employeeService.getAllEmployees()).thenReturn(List.of(ingram));
+
+        cachedEmployeeService.refreshAllEmployees();
+
+        assertEquals(List.of(ingram), cachedEmployeeService.getAllEmployees());
+        assertEquals(List.of(ingram), cachedEmployeeService.getEmployeesByNameSearch("Holm"));
+        when(employeeService.getHighestSalaryOfEmployees()).thenReturn(70000);
+        assertEquals(70000, cachedEmployeeService.getHighestSalaryOfEmployees());
+        verify(employeeService, times(1)).getAllEmployees();
+    }
+
     @Test
     void getHighestSalaryOfEmployees_CachesResults() {
         Integer highestSalary = 100000;
@@ -142,6 +301,7 @@ class CachedEmployeeServiceTest {
 
         assertEquals(createdEmployee, result);
         assertNull(cache.get("all"));
+        verify(invalidationBus).publish(CacheChange.created(createdEmployee));
     }
 
     @Test
@@ -162,5 +322,6 @@ class CachedEmployeeServiceTest {
 
         assertEquals(employeeName, result);
         assertNull(cache.get(employeeId));
+        verify(invalidationBus).publish(CacheChange.deleted(employeeId));
     }
 }
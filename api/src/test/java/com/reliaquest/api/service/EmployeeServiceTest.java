@@ -6,9 +6,12 @@ import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.EmployeeServiceException;
+import com.reliaquest.api.metrics.UpstreamMetrics;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.OffHeapRoster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -21,6 +24,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -38,6 +42,9 @@ class EmployeeServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Spy
+    private UpstreamMetrics upstreamMetrics = new UpstreamMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -66,6 +73,26 @@ class EmployeeServiceTest {
         verify(restTemplate).exchange(eq(baseUrl), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
     }
 
+    @Test
+    void getAllEmployees_OffHeap_QueriesUseOffHeapRoster() {
+        ReflectionTestUtils.setField(employeeService, "offHeapRoster", true);
+        List<Employee> employees = Arrays.asList(
+                createEmployee("1", "Soumadipta Roy", 50000), createEmployee("2", "Somantika Sarkar", 60000));
+        ResponseEntity<ApiResponse<List<Employee>>> responseEntity =
+                new ResponseEntity<>(new ApiResponse<>(employees, "Success"), HttpStatus.OK);
+        when(restTemplate.exchange(eq(baseUrl), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(responseEntity);
+
+        List<Employee> result = employeeService.getAllEmployees();
+
+        assertInstanceOf(OffHeapRoster.class, result);
+        assertEquals(employees, result);
+        assertEquals(List.of(employees.get(0)), employeeService.getEmployeesByNameSearch("ROY"));
+        assertEquals(60000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(
+                List.of("Somantika Sarkar", "Soumadipta Roy"), employeeService.getTopTenHighestEarningEmployeeNames());
+    }
+
     @Test
     void getAllEmployees_EmptyResponse() {
         ApiResponse<List<Employee>> apiResponse = new ApiResponse<>(null, "Success");
@@ -295,6 +322,15 @@ class EmployeeServiceTest {
         assertEquals("Soumadipta Roy", result.get(0).getEmployeeName());
     }
 
+    @Test
+    void containsIgnoreCase_MatchesAnyPositionRegardlessOfCase() {
+        assertTrue(NameSearch.containsIgnoreCase("Soumadipta Roy", "ROY"));
+        assertTrue(NameSearch.containsIgnoreCase("Soumadipta Roy", "madip"));
+        assertTrue(NameSearch.containsIgnoreCase("Soumadipta Roy", ""));
+        assertFalse(NameSearch.containsIgnoreCase("Roy", "Roys"));
+        assertFalse(NameSearch.containsIgnoreCase("Soumadipta Roy", "Sarkar"));
+    }
+
     @Test
     void deleteEmployeeById_FailedDeleteOperation_ThrowsEmployeeServiceException() {
         setupDeleteEmployeeGetCall();
@@ -0,0 +1,69 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.service.AllocationMeter.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.metrics.UpstreamMetrics;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Guards the bytes allocated by an uncached name search over a decoded roster. Nothing here is mocked: Mockito's
+ * inline mock maker instruments every method of a mocked class, static ones included, which would add its own
+ * allocations to each employee scanned.
+ */
+class NameSearchAllocationTest {
+
+    private static final int WARMUP_CALLS = 500;
+    private static final int MEASURED_CALLS = 200;
+    private static final int ROSTER_SIZE = 10_000;
+
+    @BeforeAll
+    static void setUpMeasurement() {
+        assumeSupported();
+    }
+
+    @Test
+    void nameSearchScan_StaysWithinBudget() {
+        RestTemplate restTemplate = stubRestTemplate(roster(ROSTER_SIZE));
+        EmployeeService service = new EmployeeService(restTemplate, new UpstreamMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(service, "baseUrl", "http://localhost:8112/api/v1/employee");
+
+        assertEquals(10, service.getEmployeesByNameSearch("EMPLOYEE 0009").size());
+        assertWithinBudget(
+                "service.getEmployeesByNameSearch",
+                () -> service.getEmployeesByNameSearch("EMPLOYEE 0009"),
+                WARMUP_CALLS,
+                MEASURED_CALLS);
+    }
+
+    /**
+     * Hands out the decoded roster without Mockito's per-invocation bookkeeping, which would swamp the measurement.
+     */
+    private static RestTemplate stubRestTemplate(List<Employee> employees) {
+        ResponseEntity<ApiResponse<List<Employee>>> response =
+                ResponseEntity.ok(new ApiResponse<>(employees, "Success"));
+        return new RestTemplate() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> ResponseEntity<T> exchange(
+                    String url,
+                    HttpMethod method,
+                    HttpEntity<?> requestEntity,
+                    ParameterizedTypeReference<T> responseType,
+                    Object... uriVariables) {
+                return (ResponseEntity<T>) response;
+            }
+        };
+    }
+}
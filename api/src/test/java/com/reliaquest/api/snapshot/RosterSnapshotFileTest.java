@@ -0,0 +1,85 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterSnapshotFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final RosterSnapshotFile snapshotFile = new RosterSnapshotFile(new ObjectMapper());
+
+    @Test
+    void writeThenRead_RoundTripsRosterAndHeader() throws IOException {
+        Path path = tempDir.resolve("roster.snapshot");
+        Instant savedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        List<Employee> employees = List.of(
+                createEmployee("1", "Soumadipta Roy", 50000), createEmployee("2", "Somantika Sarkar", 60000));
+
+        snapshotFile.write(path, new RosterSnapshotFile.Snapshot(7, savedAt, employees));
+        RosterSnapshotFile.Snapshot snapshot = snapshotFile.read(path).orElseThrow();
+
+        assertEquals(7, snapshot.sequence());
+        assertEquals(savedAt, snapshot.savedAt());
+        assertEquals(employees, snapshot.employees());
+        try (var files = Files.list(tempDir)) {
+            assertEquals(List.of(path), files.toList(), "no temporary files should be left behind");
+        }
+    }
+
+    @Test
+    void read_MissingFile_ReturnsEmpty() throws IOException {
+        assertTrue(snapshotFile.read(tempDir.resolve("missing.snapshot")).isEmpty());
+    }
+
+    @Test
+    void read_CorruptedPayload_FailsChecksum() throws IOException {
+        Path path = tempDir.resolve("roster.snapshot");
+        snapshotFile.write(
+                path,
+                new RosterSnapshotFile.Snapshot(
+                        1, Instant.now(), List.of(createEmployee("1", "Soumadipta Roy", 50000))));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[RosterSnapshotFile.HEADER_BYTES + 5] ^= 0x20;
+        Files.write(path, bytes);
+
+        IOException e = assertThrows(IOException.class, () -> snapshotFile.read(path));
+        assertTrue(e.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void read_TruncatedFile_IsRejected() throws IOException {
+        Path path = tempDir.resolve("roster.snapshot");
+        snapshotFile.write(
+                path,
+                new RosterSnapshotFile.Snapshot(
+                        1, Instant.now(), List.of(createEmployee("1", "Soumadipta Roy", 50000))));
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(IOException.class, () -> snapshotFile.read(path));
+    }
+
+    private Employee createEmployee(String id, String name, Integer salary) {
+        return Employee.builder()
+                .id(id)
+                .employeeName(name)
+                .employeeSalary(salary)
+                .employeeAge(30)
+                .employeeTitle("Developer")
+                .employeeEmail("test@company.com")
+                .build();
+    }
+}
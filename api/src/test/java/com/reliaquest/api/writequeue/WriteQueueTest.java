@@ -0,0 +1,191 @@
+package com.reliaquest.api.writequeue;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.EmployeeServiceException;
+import com.reliaquest.api.exception.WriteQueueFullException;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.CachedEmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+
+class WriteQueueTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CachedEmployeeService cachedEmployeeService = mock(CachedEmployeeService.class);
+    private WriteQueue writeQueue;
+
+    @AfterEach
+    void tearDown() {
+        if (writeQueue != null) {
+            writeQueue.destroy();
+        }
+    }
+
+    @Test
+    void create_IsAppliedInBackgroundAndReported() throws Exception {
+        when(cachedEmployeeService.createEmployee(any()))
+                .thenReturn(Employee.builder().id("7").employeeName("New Hire").build());
+        writeQueue = queue(10);
+        writeQueue.run(null);
+
+        WriteOperation accepted = writeQueue.create(request("New Hire"));
+        assertEquals(WriteOperation.Status.PENDING, accepted.status());
+
+        WriteOperation done = awaitDone(accepted.id());
+        assertEquals(WriteOperation.Status.SUCCEEDED, done.status());
+        assertEquals("7", done.employeeId());
+        assertEquals("New Hire", done.employeeName());
+        assertEquals(1, done.attempts());
+        assertNotNull(done.completedAt());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(WriteQueue.COMPLETED)
+                        .tag("status", "succeeded")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    void pendingOperations_SurviveRestartAndApplyInOrder() throws Exception {
+        WriteQueue stopped = queue(10);
+        WriteOperation create = stopped.create(request("New Hire"));
+        WriteOperation delete = stopped.delete("1");
+        stopped.destroy();
+        when(cachedEmployeeService.createEmployee(any()))
+                .thenReturn(Employee.builder().id("7").employeeName("New Hire").build());
+        when(cachedEmployeeService.deleteEmployeeById("1")).thenReturn("Soumadipta Roy");
+
+        writeQueue = queue(10);
+        assertEquals(WriteOperation.Status.PENDING, writeQueue.find(create.id()).orElseThrow().status());
+        writeQueue.run(null);
+
+        assertEquals("Soumadipta Roy", awaitDone(delete.id()).employeeName());
+        assertEquals(WriteOperation.Status.SUCCEEDED, awaitDone(create.id()).status());
+        InOrder order = inOrder(cachedEmployeeService);
+        order.verify(cachedEmployeeService).createEmployee(any());
+        order.verify(cachedEmployeeService).deleteEmployeeById("1");
+        assertTrue(writeQueue.delete("2").sequence() > delete.sequence());
+    }
+
+    @Test
+    void destroy_FinishesOperationInFlightSoRestartDoesNotApplyItAgain() throws Exception {
+        Thread stopper = new Thread(() -> writeQueue.destroy());
+        when(cachedEmployeeService.createEmployee(any())).thenAnswer(invocation -> {
+            stopper.start();
+            awaitState(stopper, Thread.State.TIMED_WAITING);
+            return Employee.builder().id("7").employeeName("New Hire").build();
+        });
+        when(cachedEmployeeService.deleteEmployeeById("1")).thenReturn("Soumadipta Roy");
+        writeQueue = queue(10);
+        writeQueue.run(null);
+
+        WriteOperation create = awaitDone(writeQueue.create(request("New Hire")).id());
+        stopper.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(stopper.isAlive());
+
+        writeQueue = queue(10);
+        assertEquals(WriteOperation.Status.SUCCEEDED, writeQueue.find(create.id()).orElseThrow().status());
+        writeQueue.run(null);
+        awaitDone(writeQueue.delete("1").id());
+        verify(cachedEmployeeService, times(1)).createEmployee(any());
+    }
+
+    @Test
+    void accept_RejectsWritesBeyondCapacity() throws Exception {
+        writeQueue = queue(1);
+        writeQueue.delete("1");
+
+        assertThrows(WriteQueueFullException.class, () -> writeQueue.delete("2"));
+    }
+
+    @Test
+    void failedWrites_AreRetriedUntilMaxAttempts() throws Exception {
+        when(cachedEmployeeService.deleteEmployeeById("1"))
+                .thenThrow(new EmployeeServiceException("Upstream unavailable"))
+                .thenReturn("Soumadipta Roy");
+        when(cachedEmployeeService.deleteEmployeeById("2"))
+                .thenThrow(new EmployeeServiceException("Upstream unavailable"));
+        writeQueue = queue(10);
+        writeQueue.run(null);
+
+        WriteOperation recovered = awaitDone(writeQueue.delete("1").id());
+        WriteOperation failed = awaitDone(writeQueue.delete("2").id());
+
+        assertEquals(WriteOperation.Status.SUCCEEDED, recovered.status());
+        assertEquals(2, recovered.attempts());
+        assertEquals(WriteOperation.Status.FAILED, failed.status());
+        assertEquals(3, failed.attempts());
+        assertEquals("Upstream unavailable", failed.error());
+    }
+
+    @Test
+    void unknownEmployee_FailsWithoutRetrying() throws Exception {
+        when(cachedEmployeeService.deleteEmployeeById("404"))
+                .thenThrow(new EmployeeNotFoundException("Employee not found: 404"));
+        writeQueue = queue(10);
+        writeQueue.run(null);
+
+        WriteOperation failed = awaitDone(writeQueue.delete("404").id());
+
+        assertEquals(WriteOperation.Status.FAILED, failed.status());
+        assertEquals(1, failed.attempts());
+        verify(cachedEmployeeService, times(1)).deleteEmployeeById("404");
+    }
+
+    private WriteQueue queue(int capacity) throws IOException {
+        return new WriteQueue(
+                cachedEmployeeService,
+                objectMapper,
+                meterRegistry,
+                directory,
+                capacity,
+                3,
+                Duration.ofMillis(1),
+                Duration.ofHours(1));
+    }
+
+    private WriteOperation awaitDone(String operationId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        WriteOperation operation = writeQueue.find(operationId).orElseThrow();
+        while (!operation.isDone()) {
+            assertTrue(System.nanoTime() < deadline, "operation never finished");
+            Thread.sleep(5);
+            operation = writeQueue.find(operationId).orElseThrow();
+        }
+        return operation;
+    }
+
+    private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != state) {
+            assertTrue(System.nanoTime() < deadline, "thread never reached " + state);
+            Thread.sleep(5);
+        }
+    }
+
+    private static CreateEmployeeRequest request(String name) {
+        return CreateEmployeeRequest.builder()
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Engineer")
+                .build();
+    }
+}
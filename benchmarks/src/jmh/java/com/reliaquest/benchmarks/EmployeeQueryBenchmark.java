@@ -0,0 +1,54 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Query paths of {@link EmployeeService} over an already decoded roster.
+ *
+ * <p>Run with {@code ./gradlew benchmarks:jmh}; narrow with {@code -PjmhIncludes=EmployeeQueryBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeQueryBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int rosterSize;
+
+    @Param({"an", "johan nov"})
+    private String searchString;
+
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        employeeService =
+                StubRestTemplates.employeeService(StubRestTemplates.decoded(SyntheticRoster.generate(rosterSize, 42)));
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesByNameSearch() {
+        return employeeService.getEmployeesByNameSearch(searchString);
+    }
+
+    @Benchmark
+    public Integer getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public List<String> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+}
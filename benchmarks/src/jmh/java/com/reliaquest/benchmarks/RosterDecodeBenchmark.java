@@ -0,0 +1,39 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Decoding of the mock server's list response through {@link EmployeeService#getAllEmployees()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RosterDecodeBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int rosterSize;
+
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        final var body = SyntheticRoster.encode(SyntheticRoster.generate(rosterSize, 42));
+        employeeService = StubRestTemplates.employeeService(StubRestTemplates.encoded(body));
+    }
+
+    @Benchmark
+    public List<Employee> getAllEmployees() {
+        return employeeService.getAllEmployees();
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Measures the retained size of a decoded roster with JOL: employees decoded the way they were before titles and email
+ * domains were shared, against the current {@link Employee}. Run with {@code ./gradlew benchmarks:rosterFootprint},
+ * optionally with {@code -Pfootprint.rows=<rows>} (default 100000).
+ */
+public final class RosterFootprint {
+
+    private RosterFootprint() {}
+
+    /**
+     * The shape {@link Employee} had before: every decoded string is its own instance.
+     */
+    static class PlainEmployee {
+
+        public String id;
+
+        @JsonProperty("employee_name")
+        public String employeeName;
+
+        @JsonProperty("employee_salary")
+        public Integer employeeSalary;
+
+        @JsonProperty("employee_age")
+        public Integer employeeAge;
+
+        @JsonProperty("employee_title")
+        public String employeeTitle;
+
+        @JsonProperty("employee_email")
+        public String employeeEmail;
+    }
+
+    public static void main(String[] args) throws Exception {
+        final var rows = Integer.getInteger("footprint.rows", 100_000);
+        final var body = SyntheticRoster.encode(SyntheticRoster.generate(rows, 42));
+        final var objectMapper = new ObjectMapper();
+
+        final ApiResponse<List<PlainEmployee>> before =
+                objectMapper.readValue(body, new TypeReference<ApiResponse<List<PlainEmployee>>>() {});
+        final ApiResponse<List<Employee>> after =
+                objectMapper.readValue(body, new TypeReference<ApiResponse<List<Employee>>>() {});
+
+        final var beforeLayout = GraphLayout.parseInstance(before.getData());
+        final var afterLayout = GraphLayout.parseInstance(after.getData());
+        System.out.println("Before:");
+        System.out.println(beforeLayout.toFootprint());
+        System.out.println("After:");
+        System.out.println(afterLayout.toFootprint());
+        System.out.printf(
+                "%d rows: %d bytes per employee before, %d after (%.1f%% smaller)%n",
+                rows,
+                beforeLayout.totalSize() / rows,
+                afterLayout.totalSize() / rows,
+                100.0 * (beforeLayout.totalSize() - afterLayout.totalSize()) / beforeLayout.totalSize());
+    }
+}
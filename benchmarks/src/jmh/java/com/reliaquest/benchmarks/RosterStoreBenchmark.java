@@ -0,0 +1,125 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.OffHeapRoster;
+import com.reliaquest.api.service.EmployeeService;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Heap roster against {@link OffHeapRoster} at a million rows: the query paths of {@link EmployeeService} over a held
+ * roster, and a refresh that decodes the upstream response into a new roster while the previous one stays live, as
+ * it does in the cache. Besides the {@code gc} profiler's figures, each trial prints the heap in use with the roster
+ * held and the collections and collection time it caused.
+ *
+ * <p>Run with {@code ./gradlew benchmarks:jmh -PjmhIncludes=RosterStoreBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RosterStoreBenchmark {
+
+    @Param({"1000000"})
+    private int rosterSize;
+
+    @Param({"heap", "off-heap"})
+    private String store;
+
+    private List<Employee> roster;
+    private List<Employee> refreshed;
+    private EmployeeService queries;
+    private EmployeeService refresher;
+    private String knownId;
+    private long collectionsAtStart;
+    private long collectionMillisAtStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var offHeap = store.equals("off-heap");
+        final var employees = SyntheticRoster.generate(rosterSize, 42);
+        knownId = employees.get(rosterSize / 2).getId();
+        refresher = StubRestTemplates.employeeService(StubRestTemplates.encoded(SyntheticRoster.encode(employees)));
+        ReflectionTestUtils.setField(refresher, "offHeapRoster", offHeap);
+        roster = offHeap ? OffHeapRoster.copyOf(employees) : employees;
+        queries = StubRestTemplates.employeeService(StubRestTemplates.decoded(roster));
+
+        System.gc();
+        final var heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        final var offHeapBytes = roster instanceof OffHeapRoster offHeapRoster ? offHeapRoster.offHeapBytes() : 0;
+        System.out.printf(
+                "%n%s roster of %d: heap used %d MB, off heap %d MB%n",
+                store, rosterSize, heapUsed >> 20, offHeapBytes >> 20);
+        collectionsAtStart = collections();
+        collectionMillisAtStart = collectionMillis();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf(
+                "%n%s roster of %d: %d collections, %d ms collecting%n",
+                store, rosterSize, collections() - collectionsAtStart, collectionMillis() - collectionMillisAtStart);
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesByNameSearch() {
+        return queries.getEmployeesByNameSearch("johan nov");
+    }
+
+    @Benchmark
+    public Integer getHighestSalaryOfEmployees() {
+        return queries.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public List<String> getTopTenHighestEarningEmployeeNames() {
+        return queries.getTopTenHighestEarningEmployeeNames();
+    }
+
+    /**
+     * The off-heap roster answers from its id index; the heap roster has none and is scanned.
+     */
+    @Benchmark
+    public Employee findById() {
+        if (roster instanceof OffHeapRoster offHeapRoster) {
+            return offHeapRoster.findById(knownId);
+        }
+        for (Employee employee : roster) {
+            if (Objects.equals(employee.getId(), knownId)) {
+                return employee;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public int refresh() {
+        refreshed = refresher.getAllEmployees();
+        return refreshed.size();
+    }
+
+    private static long collections() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    private static long collectionMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+}
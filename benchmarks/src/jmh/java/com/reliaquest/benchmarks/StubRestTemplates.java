@@ -0,0 +1,66 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.metrics.UpstreamMetrics;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * RestTemplates that answer every call locally, so benchmarks measure the API module rather than the network.
+ */
+public final class StubRestTemplates {
+
+    public static final String BASE_URL = "http://localhost:8112/api/v1/employee";
+
+    private StubRestTemplates() {}
+
+    /**
+     * Hands out an already decoded roster; isolates the query logic from JSON decoding.
+     */
+    public static RestTemplate decoded(List<Employee> employees) {
+        final var response = ResponseEntity.ok(new ApiResponse<>(employees, SyntheticRoster.STATUS));
+        return new RestTemplate() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> ResponseEntity<T> exchange(
+                    String url,
+                    HttpMethod method,
+                    HttpEntity<?> requestEntity,
+                    ParameterizedTypeReference<T> responseType,
+                    Object... uriVariables) {
+                return (ResponseEntity<T>) response;
+            }
+        };
+    }
+
+    /**
+     * Serves the encoded roster through the regular message converters, so every call pays the full decode.
+     */
+    public static RestTemplate encoded(byte[] body) {
+        return new RestTemplate((uri, method) -> {
+            final var request = new MockClientHttpRequest(method, uri);
+            final var response = new MockClientHttpResponse(body, HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            request.setResponse(response);
+            return request;
+        });
+    }
+
+    public static EmployeeService employeeService(RestTemplate restTemplate) {
+        final var employeeService = new EmployeeService(restTemplate, new UpstreamMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(employeeService, "baseUrl", BASE_URL);
+        return employeeService;
+    }
+}
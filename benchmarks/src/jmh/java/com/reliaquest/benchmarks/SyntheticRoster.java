@@ -0,0 +1,67 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic rosters shaped like the mock server's Faker output.
+ */
+public final class SyntheticRoster {
+
+    public static final String STATUS = "Successfully processed request.";
+
+    private static final String[] FIRST_NAMES = {
+        "Tiger", "Bill", "Jill", "Ann", "Johan", "Maria", "Wei", "Priya", "Omar", "Grace", "Lukas", "Aiko", "Noah", "Zara"
+    };
+    private static final String[] LAST_NAMES = {
+        "Nixon", "Bob", "Jenkins", "Roy", "Sarkar", "Chand", "Okafor", "Novak", "Haddad", "Lindqvist", "Tanaka", "Silva"
+    };
+    private static final String[] TITLES = {
+        "Documentation Engineer",
+        "Financial Advisor",
+        "Central Marketing Director",
+        "Legacy Accounting Supervisor",
+        "Investor Data Specialist",
+        "Dynamic Identity Officer",
+        "Principal Operations Designer",
+        "Senior Response Analyst"
+    };
+
+    private SyntheticRoster() {}
+
+    public static List<Employee> generate(int size, long seed) {
+        final var random = new SplittableRandom(seed);
+        final var employees = new ArrayList<Employee>(size);
+        for (int i = 0; i < size; i++) {
+            final var first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            final var last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(Employee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()).toString())
+                    .employeeName(first + " " + last)
+                    .employeeSalary(random.nextInt(30_000, 500_000))
+                    .employeeAge(random.nextInt(16, 70))
+                    .employeeTitle(TITLES[random.nextInt(TITLES.length)])
+                    .employeeEmail((first.charAt(0) + last + i).toLowerCase(Locale.ROOT) + "@company.com")
+                    .build());
+        }
+        return employees;
+    }
+
+    /**
+     * Encodes the roster exactly as the mock server's list endpoint would.
+     */
+    public static byte[] encode(List<Employee> employees) {
+        try {
+            return new ObjectMapper().writeValueAsBytes(new ApiResponse<>(employees, STATUS));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode synthetic roster", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.reliaquest.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Loopback HTTP relay between the API and the mock server that counts upstream calls by route and status.
+ */
+public final class CountingProxy implements AutoCloseable {
+
+    private static final Pattern UUID_SEGMENT =
+            Pattern.compile("/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Set<String> UNFORWARDED_HEADERS =
+            Set.of("connection", "content-length", "host", "expect", "upgrade", "transfer-encoding", "keep-alive");
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    private final URI target;
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+
+    private CountingProxy(int port, URI target) throws IOException {
+        this.target = target;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 256);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::relay);
+    }
+
+    public static CountingProxy start(int port, URI target) throws IOException {
+        final var proxy = new CountingProxy(port, target);
+        proxy.server.start();
+        return proxy;
+    }
+
+    public void reset() {
+        calls.clear();
+    }
+
+    /**
+     * Upstream call counts keyed by {@code METHOD /route -> status}, sorted for stable reports.
+     */
+    public Map<String, Long> snapshot() {
+        final var snapshot = new TreeMap<String, Long>();
+        calls.forEach((key, count) -> snapshot.put(key, count.sum()));
+        return snapshot;
+    }
+
+    private void relay(HttpExchange exchange) {
+        final var route = exchange.getRequestMethod() + " "
+                + UUID_SEGMENT.matcher(exchange.getRequestURI().getPath()).replaceAll("/{id}");
+        int status = 502;
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            final var request = HttpRequest.newBuilder(target.resolve(exchange.getRequestURI().toString()))
+                    .method(exchange.getRequestMethod(), BodyPublishers.ofByteArray(requestBody.readAllBytes()));
+            exchange.getRequestHeaders().forEach((name, values) -> {
+                if (!UNFORWARDED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    values.forEach(value -> request.header(name, value));
+                }
+            });
+            final var response = client.send(request.build(), BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            response.headers().map().forEach((name, values) -> {
+                if (!UNFORWARDED_HEADERS.contains(name.toLowerCase(Locale.ROOT)) && !name.startsWith(":")) {
+                    exchange.getResponseHeaders().put(name, values);
+                }
+            });
+            final var body = response.body();
+            exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                exchange.getResponseBody().write(body);
+            }
+        } catch (IOException e) {
+            respondBadGateway(exchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respondBadGateway(exchange);
+        } finally {
+            calls.computeIfAbsent(route + " -> " + status, ignored -> new LongAdder())
+                    .increment();
+            exchange.close();
+        }
+    }
+
+    private static void respondBadGateway(HttpExchange exchange) {
+        try {
+            exchange.sendResponseHeaders(502, -1);
+        } catch (IOException e) {
+            // Headers were already sent; closing the exchange is all that is left to do.
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
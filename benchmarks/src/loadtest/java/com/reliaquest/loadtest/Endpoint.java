@@ -0,0 +1,47 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * The seven {@code IEmployeeController} operations, as driven by the load generator.
+ */
+public enum Endpoint {
+    GET_ALL,
+    SEARCH,
+    GET_BY_ID,
+    HIGHEST_SALARY,
+    TOP_TEN,
+    CREATE,
+    DELETE;
+
+    public HttpRequest request(URI base, TrafficState state, Duration timeout) {
+        final var builder = HttpRequest.newBuilder().timeout(timeout);
+        return switch (this) {
+            case GET_ALL -> builder.uri(base).GET().build();
+            case SEARCH -> builder.uri(resolve(base, "/search/" + encode(state.randomSearchFragment())))
+                    .GET()
+                    .build();
+            case GET_BY_ID -> builder.uri(resolve(base, "/" + state.randomId())).GET().build();
+            case HIGHEST_SALARY -> builder.uri(resolve(base, "/highestSalary")).GET().build();
+            case TOP_TEN -> builder.uri(resolve(base, "/topTenHighestEarningEmployeeNames")).GET().build();
+            case CREATE -> builder.uri(base)
+                    .header("Content-Type", "application/json")
+                    .POST(BodyPublishers.ofString(state.nextCreateBody()))
+                    .build();
+            case DELETE -> builder.uri(resolve(base, "/" + state.takeCreatedId())).DELETE().build();
+        };
+    }
+
+    private static URI resolve(URI base, String path) {
+        return URI.create(base + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency and outcome counts for one endpoint. Latency runs from the request's scheduled send time, so queueing
+ * behind a slow system is measured instead of hidden (no coordinated omission).
+ */
+public final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(30);
+
+    private final Histogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public void recordResponse(int status, long latencyNanos) {
+        record(latencyNanos);
+        if (status >= 200 && status < 300) {
+            succeeded.increment();
+        } else if (status == 429) {
+            throttled.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Timeouts, refused connections and other transport failures.
+     */
+    public void recordFailure(long latencyNanos) {
+        record(latencyNanos);
+        failures.increment();
+    }
+
+    public long count() {
+        return latencyMicros.getTotalCount();
+    }
+
+    public long succeeded() {
+        return succeeded.sum();
+    }
+
+    public long throttled() {
+        return throttled.sum();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public long failures() {
+        return failures.sum();
+    }
+
+    public Histogram histogram() {
+        return latencyMicros;
+    }
+
+    private void record(long latencyNanos) {
+        latencyMicros.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+    }
+}
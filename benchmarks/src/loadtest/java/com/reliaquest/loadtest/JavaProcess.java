@@ -0,0 +1,103 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Java application running in its own JVM, with output captured to a log file.
+ */
+public final class JavaProcess implements AutoCloseable {
+
+    private final String name;
+    private final Process process;
+
+    private JavaProcess(String name, Process process) {
+        this.name = name;
+        this.process = process;
+    }
+
+    public static JavaProcess start(String name, String jar, List<String> jvmArgs, List<String> args, Path logFile)
+            throws IOException {
+        return launch(name, jvmArgs, List.of("-jar", jar), args, logFile);
+    }
+
+    /**
+     * Runs a main class from a plain class path, e.g. to use an AppCDS archive recorded against that class path.
+     */
+    public static JavaProcess startMain(
+            String name, String classpath, String mainClass, List<String> jvmArgs, List<String> args, Path logFile)
+            throws IOException {
+        return launch(name, jvmArgs, List.of("-cp", classpath, mainClass), args, logFile);
+    }
+
+    private static JavaProcess launch(
+            String name, List<String> jvmArgs, List<String> target, List<String> args, Path logFile)
+            throws IOException {
+        final var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(target);
+        command.addAll(args);
+        final var process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        return new JavaProcess(name, process);
+    }
+
+    /**
+     * Waits until the process answers HTTP on the given URI; any status counts as up.
+     */
+    public Duration awaitHttp(URI uri, Duration timeout) throws InterruptedException {
+        final var client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+        final long start = System.nanoTime();
+        final long deadline = start + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with code " + process.exitValue() + " before starting");
+            }
+            try {
+                client.send(
+                        HttpRequest.newBuilder(uri)
+                                .timeout(Duration.ofSeconds(2))
+                                .GET()
+                                .build(),
+                        BodyHandlers.discarding());
+                return Duration.ofNanos(System.nanoTime() - start);
+            } catch (IOException e) {
+                TimeUnit.MILLISECONDS.sleep(50);
+            }
+        }
+        throw new IllegalStateException(name + " did not answer " + uri + " within " + timeout);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(15, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    public static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+
+    public static Path logFile(String name) {
+        return Path.of(name + ".log").toAbsolutePath();
+    }
+}
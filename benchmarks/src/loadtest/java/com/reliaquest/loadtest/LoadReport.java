@@ -0,0 +1,92 @@
+package com.reliaquest.loadtest;
+
+import java.io.PrintStream;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Plain-text summary of one load test run.
+ */
+public final class LoadReport {
+
+    private static final String ROW = "%-16s %8s %9s %9s %9s %10s %9s %7s %7s %7s%n";
+
+    private LoadReport() {}
+
+    public static void print(
+            PrintStream out, Scenario scenario, TrafficGenerator.Results results, Map<String, Long> upstreamCalls) {
+        final double seconds = results.measured().toNanos() / 1e9;
+        out.printf(
+                "=== Load test: %d req/s for %s after %s warm-up, roster of %d, mix %s ===%n",
+                scenario.rate(), scenario.duration(), scenario.warmup(), scenario.rosterSize(), scenario.mix());
+        out.printf(
+                ROW, "endpoint", "count", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "err %", "429 %", "fail %");
+
+        final var total = new Histogram(3);
+        long succeeded = 0;
+        long throttled = 0;
+        long errors = 0;
+        long failures = 0;
+        for (var entry : results.stats().entrySet()) {
+            final var stats = entry.getValue();
+            if (stats.count() == 0) {
+                continue;
+            }
+            total.add(stats.histogram());
+            succeeded += stats.succeeded();
+            throttled += stats.throttled();
+            errors += stats.errors();
+            failures += stats.failures();
+            printRow(
+                    out,
+                    entry.getKey().name(),
+                    stats.histogram(),
+                    seconds,
+                    stats.errors(),
+                    stats.throttled(),
+                    stats.failures());
+        }
+        printRow(out, "TOTAL", total, seconds, errors, throttled, failures);
+        out.printf(
+                "succeeded: %d, dropped by generator: %d, unfinished at report time: %d%n",
+                succeeded, results.dropped(), results.unfinished());
+
+        final long upstreamTotal =
+                upstreamCalls.values().stream().mapToLong(Long::longValue).sum();
+        out.printf(
+                "upstream calls: %d (%.2f per API request)%n",
+                upstreamTotal, total.getTotalCount() == 0 ? 0.0 : (double) upstreamTotal / total.getTotalCount());
+        upstreamCalls.forEach((route, count) -> out.printf("  %-48s %8d%n", route, count));
+    }
+
+    private static void printRow(
+            PrintStream out,
+            String name,
+            Histogram histogram,
+            double seconds,
+            long errors,
+            long throttled,
+            long failures) {
+        final long count = histogram.getTotalCount();
+        out.printf(
+                ROW,
+                name,
+                count,
+                "%.1f".formatted(count / seconds),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                percent(errors, count),
+                percent(throttled, count),
+                percent(failures, count));
+    }
+
+    private static String millis(long micros) {
+        return "%.1f".formatted(micros / 1000.0);
+    }
+
+    private static String percent(long part, long count) {
+        return "%.2f".formatted(count == 0 ? 0.0 : 100.0 * part / count);
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.loadtest;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Boots the mock server and the API on loopback, with a {@link CountingProxy} in between, and drives the configured
+ * {@link Scenario} through the API. Run with {@code ./gradlew benchmarks:loadTest}.
+ */
+public final class LoadTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        final var scenario = Scenario.fromSystemProperties();
+        final var serverPort = JavaProcess.freePort();
+        final var proxyPort = JavaProcess.freePort();
+        final var apiPort = JavaProcess.freePort();
+        final var jvmArgs = List.of(System.getProperty("loadtest.jvmArgs", "-Xmx1g").split("\\s+"));
+
+        try (var server = JavaProcess.start(
+                        "mock-server",
+                        System.getProperty("loadtest.serverJar"),
+                        jvmArgs,
+                        List.of(
+                                "--server.port=" + serverPort,
+                                "--mock.employees.max=" + scenario.rosterSize(),
+                                "--logging.level.com.reliaquest=INFO"),
+                        JavaProcess.logFile("mock-server"));
+                var proxy = CountingProxy.start(proxyPort, URI.create("http://127.0.0.1:" + serverPort));
+                var api = JavaProcess.start(
+                        "api",
+                        System.getProperty("loadtest.apiJar"),
+                        jvmArgs,
+                        List.of(
+                                "--server.port=" + apiPort,
+                                "--employee.api.base-url=http://127.0.0.1:" + proxyPort + "/api/v1/employee",
+                                "--logging.level.com.reliaquest.api=INFO",
+                                "--logging.level.org.springframework.retry=INFO",
+                                "--logging.level.org.springframework.cache=INFO",
+                                "--logging.level.org.springframework.web.client.RestTemplate=INFO"),
+                        JavaProcess.logFile("api"))) {
+            final var apiBase = URI.create("http://127.0.0.1:" + apiPort + "/api/v1/employee");
+            System.out.printf(
+                    "mock server up in %s%n",
+                    server.awaitHttp(URI.create("http://127.0.0.1:" + serverPort + "/admin/faults"), STARTUP_TIMEOUT));
+            System.out.printf(
+                    "api up in %s%n", api.awaitHttp(URI.create("http://127.0.0.1:" + apiPort + "/"), STARTUP_TIMEOUT));
+
+            final var generator = new TrafficGenerator(scenario, apiBase);
+            generator.seed();
+            final var results = generator.run(proxy::reset);
+            final var upstreamCalls = proxy.snapshot();
+
+            LoadReport.print(System.out, scenario, results, upstreamCalls);
+            final var reportFile = writeReport(scenario, results, upstreamCalls);
+            System.out.println("Report written to " + reportFile);
+        }
+    }
+
+    private static Path writeReport(
+            Scenario scenario, TrafficGenerator.Results results, Map<String, Long> upstreamCalls)
+            throws IOException {
+        final var directory = Files.createDirectories(Path.of("reports"));
+        final var file = directory.resolve(
+                "loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt");
+        try (var out = new PrintStream(new FileOutputStream(file.toFile()), true)) {
+            LoadReport.print(out, scenario, results, upstreamCalls);
+        }
+        return file.toAbsolutePath();
+    }
+}
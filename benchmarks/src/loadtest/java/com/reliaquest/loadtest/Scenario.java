@@ -0,0 +1,54 @@
+package com.reliaquest.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties (the Gradle task forwards {@code -Ploadtest.*}).
+ *
+ * <ul>
+ *   <li>{@code loadtest.rate} - requests per second issued at fixed intervals, regardless of completions (default 50)
+ *   <li>{@code loadtest.duration} / {@code loadtest.warmup} - measured and unmeasured phases (default PT60S / PT10S)
+ *   <li>{@code loadtest.requestTimeout} - client timeout per API request (default PT120S)
+ *   <li>{@code loadtest.rosterSize} - mock server roster size (default 50)
+ *   <li>{@code loadtest.mix} - endpoint weights (default {@value #DEFAULT_MIX})
+ * </ul>
+ */
+public record Scenario(
+        int rate,
+        Duration duration,
+        Duration warmup,
+        Duration requestTimeout,
+        int rosterSize,
+        Map<Endpoint, Integer> mix) {
+
+    public static final String DEFAULT_MIX =
+            "GET_ALL:25,SEARCH:25,GET_BY_ID:20,HIGHEST_SALARY:10,TOP_TEN:10,CREATE:6,DELETE:4";
+
+    public static Scenario fromSystemProperties() {
+        return new Scenario(
+                Integer.getInteger("loadtest.rate", 50),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.requestTimeout", "PT120S")),
+                Integer.getInteger("loadtest.rosterSize", 50),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)));
+    }
+
+    static Map<Endpoint, Integer> parseMix(String mix) {
+        final var weights = new EnumMap<Endpoint, Integer>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            final var parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries must look like ENDPOINT:weight, got: " + entry);
+            }
+            weights.put(Endpoint.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Mix weights must add up to more than zero: " + mix);
+        }
+        return weights;
+    }
+}
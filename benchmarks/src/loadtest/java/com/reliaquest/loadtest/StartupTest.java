@@ -0,0 +1,157 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Starts the API repeatedly in each startup mode and reports how long it takes to answer its health check and to
+ * serve its first employee request. Every run gets a fresh mock server, so its rate limiter never interferes. Run
+ * with {@code ./gradlew benchmarks:startupTest}, adding {@code -PspringAot} to include the AOT-processed build.
+ */
+public final class StartupTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private StartupTest() {}
+
+    private record Mode(String name, String classpath, List<String> jvmArgs) {}
+
+    private record Run(Duration ready, Duration firstRequest, int status) {
+
+        Duration timeToFirstRequest() {
+            return ready.plus(firstRequest);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        final var runs = Integer.getInteger("startup.runs", 5);
+        final var jvmArgs = split(System.getProperty("startup.jvmArgs", "-Xmx1g"));
+        final var modes = modes(jvmArgs);
+
+        final var results = new ArrayList<List<Run>>();
+        for (Mode mode : modes) {
+            final var modeRuns = new ArrayList<Run>();
+            for (int i = 1; i <= runs; i++) {
+                final var run = measure(mode, i);
+                System.out.printf(
+                        "%-16s run %d: ready %5d ms, first request %5d ms (HTTP %d)%n",
+                        mode.name(),
+                        i,
+                        run.ready().toMillis(),
+                        run.firstRequest().toMillis(),
+                        run.status());
+                modeRuns.add(run);
+            }
+            results.add(modeRuns);
+        }
+
+        System.out.println();
+        System.out.printf("%-16s %12s %12s %16s%n", "mode", "ready p50", "ready min", "first request p50");
+        for (int i = 0; i < modes.size(); i++) {
+            final var modeRuns = results.get(i);
+            System.out.printf(
+                    "%-16s %9d ms %9d ms %13d ms%n",
+                    modes.get(i).name(),
+                    median(modeRuns.stream().map(Run::ready).toList()).toMillis(),
+                    modeRuns.stream().map(Run::ready).min(Duration::compareTo).orElseThrow().toMillis(),
+                    median(modeRuns.stream().map(Run::timeToFirstRequest).toList()).toMillis());
+        }
+    }
+
+    /**
+     * The boot jar is the baseline. The plain class path without an archive isolates the cost of nested-jar loading
+     * from the gain of AppCDS itself.
+     */
+    private static List<Mode> modes(List<String> jvmArgs) {
+        final var aotArgs = split(System.getProperty("startup.apiJvmArgs", ""));
+        final var aot = aotArgs.contains("-Dspring.aot.enabled=true");
+        final var classpath = required("startup.apiClasspath");
+        final var archive = Path.of(required("startup.cdsArchive"));
+        if (!Files.isRegularFile(archive)) {
+            throw new IllegalStateException("No AppCDS archive at " + archive + "; run ./gradlew api:cdsArchive");
+        }
+        final var withAot = new ArrayList<>(jvmArgs);
+        withAot.addAll(aotArgs);
+        final var withCds = new ArrayList<>(withAot);
+        // Fail on a stale or mismatched archive instead of silently running without it.
+        withCds.add("-XX:SharedArchiveFile=" + archive);
+        withCds.add("-Xshare:on");
+
+        return List.of(
+                new Mode("boot-jar", null, jvmArgs),
+                new Mode(aot ? "classpath+aot" : "classpath", classpath, withAot),
+                new Mode(aot ? "appcds+aot" : "appcds", classpath, withCds));
+    }
+
+    private static Run measure(Mode mode, int run) throws Exception {
+        final var serverPort = JavaProcess.freePort();
+        final var apiPort = JavaProcess.freePort();
+        final var apiArgs = List.of(
+                "--server.port=" + apiPort,
+                "--employee.api.base-url=http://127.0.0.1:" + serverPort + "/api/v1/employee",
+                // A warm start would serve the first request from the previous run's snapshot.
+                "--employee.snapshot.enabled=false",
+                "--logging.level.com.reliaquest.api=INFO",
+                "--logging.level.org.springframework.retry=INFO",
+                "--logging.level.org.springframework.cache=INFO",
+                "--logging.level.org.springframework.web.client.RestTemplate=INFO");
+        final var logFile = JavaProcess.logFile("api-" + mode.name() + "-" + run);
+
+        try (var server = JavaProcess.start(
+                "mock-server",
+                required("startup.serverJar"),
+                List.of("-Xmx512m"),
+                List.of("--server.port=" + serverPort, "--logging.level.com.reliaquest=INFO"),
+                JavaProcess.logFile("mock-server"))) {
+            server.awaitHttp(URI.create("http://127.0.0.1:" + serverPort + "/admin/faults"), STARTUP_TIMEOUT);
+
+            try (var api = mode.classpath() == null
+                    ? JavaProcess.start("api", required("startup.apiJar"), mode.jvmArgs(), apiArgs, logFile)
+                    : JavaProcess.startMain(
+                            "api",
+                            mode.classpath(),
+                            "com.reliaquest.api.ApiApplication",
+                            mode.jvmArgs(),
+                            apiArgs,
+                            logFile)) {
+                final var ready =
+                        api.awaitHttp(URI.create("http://127.0.0.1:" + apiPort + "/actuator/health"), STARTUP_TIMEOUT);
+                final var client = HttpClient.newHttpClient();
+                final long start = System.nanoTime();
+                final var response = client.send(
+                        HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + apiPort + "/api/v1/employee"))
+                                .timeout(REQUEST_TIMEOUT)
+                                .GET()
+                                .build(),
+                        BodyHandlers.discarding());
+                return new Run(ready, Duration.ofNanos(System.nanoTime() - start), response.statusCode());
+            }
+        }
+    }
+
+    private static Duration median(List<Duration> durations) {
+        final var sorted = durations.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static List<String> split(String value) {
+        return value.isBlank() ? List.of() : Arrays.asList(value.trim().split("\\s+"));
+    }
+
+    private static String required(String property) {
+        final var value = System.getProperty(property);
+        if (value == null) {
+            throw new IllegalStateException(property + " is not set; run through ./gradlew benchmarks:startupTest");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,153 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Open-loop traffic: requests are issued on a fixed schedule whether or not earlier ones have completed.
+ */
+public final class TrafficGenerator {
+
+    private static final int MAX_IN_FLIGHT = 20_000;
+
+    private final Scenario scenario;
+    private final URI apiBase;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TrafficState state = new TrafficState();
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final Map<CompletableFuture<?>, Boolean> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final Endpoint[] weightedEndpoints;
+
+    public TrafficGenerator(Scenario scenario, URI apiBase) {
+        this.scenario = scenario;
+        this.apiBase = apiBase;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(16, daemonThreads()))
+                .build();
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        this.weightedEndpoints = scenario.mix().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Endpoint[]::new);
+    }
+
+    /**
+     * Reads the roster through the API once, so later requests can target real ids and names.
+     */
+    public void seed() throws IOException, InterruptedException {
+        final var response = client.send(
+                HttpRequest.newBuilder(apiBase).timeout(Duration.ofMinutes(5)).GET().build(),
+                BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Seeding the roster failed with HTTP " + response.statusCode());
+        }
+        state.seed(objectMapper.readTree(response.body()));
+    }
+
+    public Results run(Runnable onMeasurementStart) {
+        final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / scenario.rate();
+        final long warmupNanos = scenario.warmup().toNanos();
+        final long totalNanos = warmupNanos + scenario.duration().toNanos();
+        final long start = System.nanoTime();
+        boolean measuring = false;
+
+        for (long i = 0; ; i++) {
+            final long scheduled = start + i * intervalNanos;
+            if (scheduled - start >= totalNanos) {
+                break;
+            }
+            if (!measuring && scheduled - start >= warmupNanos) {
+                measuring = true;
+                onMeasurementStart.run();
+            }
+            LockSupport.parkNanos(scheduled - System.nanoTime());
+            if (inFlight.size() >= MAX_IN_FLIGHT) {
+                if (measuring) {
+                    dropped.increment();
+                }
+                continue;
+            }
+            send(pickEndpoint(), scheduled, measuring);
+        }
+
+        awaitInFlight(scenario.requestTimeout().plusSeconds(5));
+        return new Results(stats, scenario.duration(), dropped.sum(), inFlight.size());
+    }
+
+    private void send(Endpoint endpoint, long scheduled, boolean measuring) {
+        final HttpRequest request = endpoint.request(apiBase, state, scenario.requestTimeout());
+        final var future = client.sendAsync(request, BodyHandlers.ofByteArray());
+        inFlight.put(future, Boolean.TRUE);
+        future.whenComplete((response, error) -> {
+            inFlight.remove(future);
+            final long latency = System.nanoTime() - scheduled;
+            if (error != null) {
+                if (measuring) {
+                    stats.get(endpoint).recordFailure(latency);
+                }
+                return;
+            }
+            if (endpoint == Endpoint.CREATE && response.statusCode() == 200) {
+                rememberCreated(response);
+            }
+            if (measuring) {
+                stats.get(endpoint).recordResponse(response.statusCode(), latency);
+            }
+        });
+    }
+
+    private Endpoint pickEndpoint() {
+        final var endpoint = weightedEndpoints[ThreadLocalRandom.current().nextInt(weightedEndpoints.length)];
+        // Deletes only target employees this run created; until one exists, create instead.
+        return endpoint == Endpoint.DELETE && !state.hasCreatedEmployees() ? Endpoint.CREATE : endpoint;
+    }
+
+    private void rememberCreated(HttpResponse<byte[]> response) {
+        try {
+            state.recordCreated(objectMapper.readTree(response.body()).path("id").asText());
+        } catch (IOException e) {
+            // Unparseable create responses are counted by status alone.
+        }
+    }
+
+    private void awaitInFlight(Duration timeout) {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        while (!inFlight.isEmpty() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        return runnable -> {
+            final var thread = new Thread(runnable, "load-generator");
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * @param unfinished requests still outstanding when the report was taken
+     */
+    public record Results(Map<Endpoint, EndpointStats> stats, Duration measured, long dropped, int unfinished) {}
+}
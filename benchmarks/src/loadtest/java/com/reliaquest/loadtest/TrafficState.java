@@ -0,0 +1,72 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ids and names the generator draws requests from. Deletes only ever target employees the load test created itself.
+ */
+public final class TrafficState {
+
+    private final List<String> seedIds = new ArrayList<>();
+    private final List<String> seedNames = new ArrayList<>();
+    private final ConcurrentLinkedDeque<String> createdIds = new ConcurrentLinkedDeque<>();
+    private final AtomicLong createSequence = new AtomicLong();
+
+    public void seed(JsonNode roster) {
+        for (JsonNode employee : roster) {
+            seedIds.add(employee.path("id").asText());
+            seedNames.add(employee.path("employee_name").asText());
+        }
+        if (seedIds.isEmpty()) {
+            throw new IllegalStateException("The API returned an empty roster; nothing to drive traffic against.");
+        }
+    }
+
+    public boolean hasCreatedEmployees() {
+        return !createdIds.isEmpty();
+    }
+
+    public String randomId() {
+        final var created = createdIds.peekLast();
+        final var random = ThreadLocalRandom.current();
+        if (created != null && random.nextInt(4) == 0) {
+            return created;
+        }
+        return seedIds.get(random.nextInt(seedIds.size()));
+    }
+
+    public String randomSearchFragment() {
+        final var random = ThreadLocalRandom.current();
+        final var name = seedNames.get(random.nextInt(seedNames.size()));
+        if (name.length() <= 3) {
+            return name;
+        }
+        final var start = random.nextInt(name.length() - 3);
+        return name.substring(start, start + 3).trim();
+    }
+
+    public String nextCreateBody() {
+        final var sequence = createSequence.incrementAndGet();
+        final var random = ThreadLocalRandom.current();
+        return """
+                {"name":"Load Test %d","salary":%d,"age":%d,"title":"Load Tester"}"""
+                .formatted(sequence, random.nextInt(30_000, 500_000), random.nextInt(16, 76));
+    }
+
+    public void recordCreated(String id) {
+        createdIds.addLast(id);
+    }
+
+    public String takeCreatedId() {
+        final var id = createdIds.pollFirst();
+        if (id == null) {
+            throw new IllegalStateException("No created employee left to delete.");
+        }
+        return id;
+    }
+}
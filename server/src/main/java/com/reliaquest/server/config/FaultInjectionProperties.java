@@ -0,0 +1,66 @@
+package com.reliaquest.server.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+ * Named fault profiles. Endpoint overrides are keyed by MockEmployeeController handler method name, e.g. getEmployees.
+ */
+@Data
+@ConfigurationProperties(prefix = "mock.faults")
+public class FaultInjectionProperties {
+
+    public static final String NO_PROFILE = "none";
+
+    private String activeProfile = NO_PROFILE;
+    private Map<String, FaultProfile> profiles = new LinkedHashMap<>();
+
+    @Data
+    public static class FaultProfile {
+
+        private EndpointFaults defaults = new EndpointFaults();
+        private Map<String, EndpointFaults> endpoints = new LinkedHashMap<>();
+
+        public EndpointFaults forEndpoint(String endpoint) {
+            return endpoints.getOrDefault(endpoint, defaults);
+        }
+    }
+
+    @Data
+    public static class EndpointFaults {
+
+        private Latency latency = new Latency();
+        private double errorRate;
+        private int errorStatus = 503;
+        private double abortRate;
+        private int trickleChunkBytes;
+        private Duration trickleInterval = Duration.ZERO;
+
+        public boolean isTrickling() {
+            return trickleChunkBytes > 0 && !trickleInterval.isZero();
+        }
+    }
+
+    @Data
+    public static class Latency {
+
+        private Distribution distribution = Distribution.NONE;
+        private Duration fixed = Duration.ZERO;
+        private Duration min = Duration.ZERO;
+        private Duration max = Duration.ZERO;
+        private Duration median = Duration.ZERO;
+        private double sigma;
+        private double spikeRate;
+        private Duration spike = Duration.ZERO;
+    }
+
+    public enum Distribution {
+        NONE,
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL
+    }
+}
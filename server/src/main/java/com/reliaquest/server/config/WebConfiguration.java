@@ -0,0 +1,55 @@
+package com.reliaquest.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.controller.FaultAdminController;
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.service.FaultInjectionService;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.web.FaultInjectionInterceptor;
+import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.web.RosterETag;
+import com.reliaquest.server.web.TricklingResponseFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(FaultInjectionProperties.class)
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private static final String ADMIN_PATHS = FaultAdminController.BASE_PATH + "/**";
+
+    private final MockEmployeeStore mockEmployeeStore;
+    private final FaultInjectionService faultInjectionService;
+    private final ObjectMapper objectMapper;
+
+    @Bean
+    public FilterRegistrationBean<TricklingResponseFilter> tricklingResponseFilter() {
+        return new FilterRegistrationBean<>(new TricklingResponseFilter(faultInjectionService));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new FaultInjectionInterceptor(faultInjectionService, objectMapper))
+                .excludePathPatterns(ADMIN_PATHS);
+        registry.addInterceptor(new RandomRequestLimitInterceptor(this::isUnchangedRosterPoll))
+                .excludePathPatterns(ADMIN_PATHS);
+    }
+
+    /*
+     * Conditional roster polls that will be answered with 304 Not Modified do not count against the rate limit.
+     */
+    private boolean isUnchangedRosterPoll(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod())
+                && MockEmployeeController.BASE_PATH.equals(request.getRequestURI())
+                && RosterETag.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), mockEmployeeStore.version());
+    }
+}
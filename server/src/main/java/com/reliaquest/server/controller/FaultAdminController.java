@@ -0,0 +1,45 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultInjectionService;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(FaultAdminController.BASE_PATH)
+@RequiredArgsConstructor
+public class FaultAdminController {
+
+    public static final String BASE_PATH = "/admin/faults";
+
+    private final FaultInjectionService faultInjectionService;
+
+    @GetMapping()
+    public Response<FaultStatus> getFaultStatus() {
+        return Response.handledWith(status());
+    }
+
+    @PutMapping("/{profile}")
+    public Response<FaultStatus> activateProfile(@PathVariable("profile") String profile) {
+        faultInjectionService.activate(profile);
+        return Response.handledWith(status());
+    }
+
+    @DeleteMapping()
+    public Response<FaultStatus> deactivate() {
+        faultInjectionService.deactivate();
+        return Response.handledWith(status());
+    }
+
+    private FaultStatus status() {
+        return new FaultStatus(faultInjectionService.getActiveProfile(), faultInjectionService.getProfileNames());
+    }
+
+    public record FaultStatus(String activeProfile, Set<String> profiles) {}
+}
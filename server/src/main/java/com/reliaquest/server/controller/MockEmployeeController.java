@@ -2,33 +2,89 @@ package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.EmployeeQuery;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeStreamService;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.RosterResponseCache;
+import com.reliaquest.server.web.RosterETag;
 import jakarta.validation.Valid;
-import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
-@RequestMapping("/api/v1/employee")
+@RequestMapping(MockEmployeeController.BASE_PATH)
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String BASE_PATH = "/api/v1/employee";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
     private final MockEmployeeService mockEmployeeService;
+    private final EmployeeChangeStreamService employeeChangeStreamService;
+    private final RosterResponseCache rosterResponseCache;
 
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<?> getEmployees(
+            @RequestParam(name = "offset", required = false) Integer offset,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "nameContains", required = false) String nameContains,
+            @RequestParam(name = "minSalary", required = false) Integer minSalary,
+            @RequestParam(name = "maxSalary", required = false) Integer maxSalary,
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        final var query = EmployeeQuery.of(offset, limit, nameContains, minSalary, maxSalary, sort);
+        final var currentVersion = mockEmployeeService.getRosterVersion();
+        if (RosterETag.matches(ifNoneMatch, currentVersion)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(RosterETag.of(currentVersion))
+                    .build();
+        }
+        if (query.isUnrestricted()) {
+            final var roster = rosterResponseCache.get();
+            return ResponseEntity.ok()
+                    .eTag(RosterETag.of(roster.version()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(roster.body());
+        }
+        final var page = mockEmployeeService.query(query);
+        return ResponseEntity.ok()
+                .eTag(RosterETag.of(page.version()))
+                .header(TOTAL_COUNT_HEADER, String.valueOf(page.total()))
+                .body(Response.handledWith(page.employees()));
+    }
+
+    @GetMapping("/changes")
+    public Response<EmployeeChanges> getChanges(@RequestParam(name = "since") long since) {
+        return Response.handledWith(mockEmployeeService.getChanges(since));
+    }
+
+    @GetMapping(path = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(name = "since", required = false) Long since,
+            @RequestHeader(name = LAST_EVENT_ID_HEADER, required = false) Long lastEventId) {
+        final long from = lastEventId != null
+                ? lastEventId
+                : Objects.requireNonNullElseGet(since, mockEmployeeService::getRosterVersion);
+        return employeeChangeStreamService.subscribe(from);
     }
 
     @GetMapping("/{id}")
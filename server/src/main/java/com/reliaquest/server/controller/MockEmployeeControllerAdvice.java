@@ -2,14 +2,42 @@ package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.Response;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.TypeMismatchException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @Slf4j
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    @ExceptionHandler
+    protected ResponseEntity<?> handleIllegalArgument(IllegalArgumentException ex) {
+        log.debug("Rejected web request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
+    /*
+     * Query parameters that do not convert, e.g. offset=abc, are the caller's mistake rather than a server error.
+     */
+    @ExceptionHandler
+    protected ResponseEntity<?> handleTypeMismatch(TypeMismatchException ex) {
+        final var name = ex instanceof MethodArgumentTypeMismatchException mismatch
+                ? mismatch.getName()
+                : ex.getPropertyName();
+        final var message = "Invalid value '%s' for %s.".formatted(ex.getValue(), name);
+        log.debug("Rejected web request: {}", message);
+        return ResponseEntity.badRequest().body(Response.error(message));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleMissingParameter(MissingServletRequestParameterException ex) {
+        log.debug("Rejected web request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
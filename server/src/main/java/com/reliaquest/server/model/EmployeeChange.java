@@ -0,0 +1,11 @@
+package com.reliaquest.server.model;
+
+import java.time.Instant;
+
+public record EmployeeChange(long sequence, Type type, MockEmployee employee, Instant timestamp) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/*
+ * When resyncRequired is set the requested sequence is no longer retained and the consumer must refetch the roster.
+ */
+public record EmployeeChanges(List<EmployeeChange> changes, long latestSequence, boolean resyncRequired) {
+
+    public static EmployeeChanges resync(long latestSequence) {
+        return new EmployeeChanges(List.of(), latestSequence, true);
+    }
+}
@@ -0,0 +1,5 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+public record EmployeePage(List<MockEmployee> employees, int total, long version) {}
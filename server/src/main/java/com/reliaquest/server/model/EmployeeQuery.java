@@ -0,0 +1,67 @@
+package com.reliaquest.server.model;
+
+import java.util.Locale;
+import java.util.Objects;
+
+public record EmployeeQuery(
+        int offset, Integer limit, String nameContains, Integer minSalary, Integer maxSalary, Sort sort) {
+
+    public static final int MAX_LIMIT = 10_000;
+
+    public EmployeeQuery {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative.");
+        }
+        if (limit != null && (limit < 1 || limit > MAX_LIMIT)) {
+            throw new IllegalArgumentException("limit must be between 1 and %d.".formatted(MAX_LIMIT));
+        }
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            throw new IllegalArgumentException("minSalary must not exceed maxSalary.");
+        }
+        nameContains = nameContains == null || nameContains.isBlank() ? null : nameContains.toLowerCase(Locale.ROOT);
+    }
+
+    public static EmployeeQuery of(
+            Integer offset, Integer limit, String nameContains, Integer minSalary, Integer maxSalary, String sort) {
+        return new EmployeeQuery(
+                Objects.requireNonNullElse(offset, 0), limit, nameContains, minSalary, maxSalary, Sort.parse(sort));
+    }
+
+    public boolean isUnrestricted() {
+        return offset == 0
+                && limit == null
+                && nameContains == null
+                && minSalary == null
+                && maxSalary == null
+                && sort == null;
+    }
+
+    public boolean hasSalaryRange() {
+        return minSalary != null || maxSalary != null;
+    }
+
+    /*
+     * Accepts a field name optionally prefixed with '-' for descending order, e.g. "salary" or "-name".
+     */
+    public enum Sort {
+        NAME,
+        NAME_DESC,
+        SALARY,
+        SALARY_DESC,
+        AGE,
+        AGE_DESC;
+
+        public static Sort parse(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            final var descending = value.startsWith("-");
+            final var field = (descending ? value.substring(1) : value).trim().toUpperCase(Locale.ROOT);
+            try {
+                return valueOf(descending ? field + "_DESC" : field);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported sort: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.store.EmployeeChangeLog;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+ * Fans change-log events out to SSE subscribers. Each subscriber has its own bounded queue, drained by at most one task
+ * at a time, which keeps per-subscriber ordering without locks; a client that stops reading only stalls its own task.
+ * A subscriber whose queue overflows is sent a resync and dropped, so a stalled client costs bounded memory.
+ */
+@Slf4j
+@Service
+public class EmployeeChangeStreamService {
+
+    private final EmployeeChangeLog changeLog;
+    private final Duration streamTimeout;
+    private final int subscriberBuffer;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService dispatcher = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable, "employee-change-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EmployeeChangeStreamService(
+            EmployeeChangeLog changeLog,
+            @Value("${mock.changes.stream-timeout:30m}") Duration streamTimeout,
+            @Value("${mock.changes.subscriber-buffer:256}") int subscriberBuffer) {
+        if (subscriberBuffer < 1) {
+            throw new IllegalArgumentException("Subscriber buffer must be positive.");
+        }
+        this.changeLog = changeLog;
+        this.streamTimeout = streamTimeout;
+        this.subscriberBuffer = subscriberBuffer;
+        // Runs under the store's write lock, after the roster changed: it must neither block nor throw.
+        changeLog.addListener(change -> subscribers.forEach(subscriber -> subscriber.offer(change)));
+    }
+
+    public SseEmitter subscribe(long since) {
+        final var emitter = new SseEmitter(streamTimeout.toMillis());
+        final var subscriber = new Subscriber(emitter, since);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        subscribers.add(subscriber);
+        subscriber.schedule();
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<EmployeeChange> queue = new ArrayBlockingQueue<>(subscriberBuffer);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private long lastSequence;
+        private boolean replayed;
+        private volatile boolean overflowed;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, long lastSequence) {
+            this.emitter = emitter;
+            this.lastSequence = lastSequence;
+        }
+
+        private void offer(EmployeeChange change) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(change)) {
+                overflowed = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the client reconnects to a new instance anyway.
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                if (!replayed) {
+                    replayed = true;
+                    replay();
+                }
+                EmployeeChange change;
+                while (!closed && !overflowed && (change = queue.poll()) != null) {
+                    send(change);
+                }
+                if (overflowed && !closed) {
+                    log.debug("Dropping change stream subscriber that fell {} events behind", subscriberBuffer);
+                    resync(changeLog.latestSequence());
+                    close();
+                    emitter.complete();
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            if (!closed && (overflowed || !queue.isEmpty())) {
+                schedule();
+            }
+        }
+
+        private void replay() {
+            final var backlog = changeLog.since(lastSequence);
+            if (backlog.resyncRequired()) {
+                resync(backlog.latestSequence());
+            } else {
+                backlog.changes().forEach(this::send);
+            }
+        }
+
+        /*
+         * Events already delivered during backlog replay are skipped, so a change racing the subscription is sent once.
+         */
+        private void send(EmployeeChange change) {
+            if (closed || change.sequence() <= lastSequence) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(change.sequence()))
+                        .name(change.type().name().toLowerCase(Locale.ROOT))
+                        .data(change));
+                lastSequence = change.sequence();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping change stream subscriber: {}", e.getMessage());
+                close();
+                emitter.completeWithError(e);
+            }
+        }
+
+        private void resync(long latestSequence) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(latestSequence))
+                        .name("resync")
+                        .data(Map.of("latestSequence", latestSequence)));
+                lastSequence = latestSequence;
+            } catch (IOException | IllegalStateException e) {
+                close();
+                emitter.completeWithError(e);
+            }
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+            subscribers.remove(this);
+        }
+    }
+}
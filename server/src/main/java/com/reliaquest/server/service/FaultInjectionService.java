@@ -0,0 +1,94 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.config.FaultInjectionProperties.EndpointFaults;
+import com.reliaquest.server.config.FaultInjectionProperties.Latency;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class FaultInjectionService {
+
+    private final FaultInjectionProperties properties;
+    private final AtomicReference<String> activeProfile;
+    private final Supplier<RandomGenerator> random;
+
+    @Autowired
+    public FaultInjectionService(FaultInjectionProperties properties) {
+        this(properties, ThreadLocalRandom::current);
+    }
+
+    /*
+     * A seeded random source makes the injected faults reproducible.
+     */
+    public FaultInjectionService(FaultInjectionProperties properties, Supplier<RandomGenerator> random) {
+        this.properties = properties;
+        this.random = random;
+        this.activeProfile = new AtomicReference<>(FaultInjectionProperties.NO_PROFILE);
+        activate(properties.getActiveProfile());
+    }
+
+    public String getActiveProfile() {
+        return activeProfile.get();
+    }
+
+    public Set<String> getProfileNames() {
+        return properties.getProfiles().keySet();
+    }
+
+    public boolean isActive() {
+        return !FaultInjectionProperties.NO_PROFILE.equals(activeProfile.get());
+    }
+
+    public void activate(@NonNull String profile) {
+        if (!FaultInjectionProperties.NO_PROFILE.equals(profile)
+                && !properties.getProfiles().containsKey(profile)) {
+            throw new IllegalArgumentException("Unknown fault profile: " + profile);
+        }
+        final var previous = activeProfile.getAndSet(profile);
+        if (!previous.equals(profile)) {
+            log.info("Fault profile changed from {} to {}", previous, profile);
+        }
+    }
+
+    public void deactivate() {
+        activate(FaultInjectionProperties.NO_PROFILE);
+    }
+
+    /*
+     * Returns null when no profile is active.
+     */
+    public EndpointFaults faultsFor(String endpoint) {
+        final var profile = properties.getProfiles().get(activeProfile.get());
+        return profile == null ? null : profile.forEndpoint(endpoint);
+    }
+
+    public boolean roll(double rate) {
+        return rate > 0 && random.get().nextDouble() < rate;
+    }
+
+    public Duration sampleLatency(@NonNull Latency latency) {
+        final var random = this.random.get();
+        final var base =
+                switch (latency.getDistribution()) {
+                    case NONE -> Duration.ZERO;
+                    case FIXED -> latency.getFixed();
+                    case UNIFORM -> latency.getMax().compareTo(latency.getMin()) <= 0
+                            ? latency.getMin()
+                            : Duration.ofNanos(random.nextLong(
+                                    latency.getMin().toNanos(), latency.getMax().toNanos()));
+                    case LOG_NORMAL -> Duration.ofNanos((long) (latency.getMedian().toNanos()
+                            * Math.exp(latency.getSigma() * random.nextGaussian())));
+                };
+        return roll(latency.getSpikeRate()) ? base.plus(latency.getSpike()) : base;
+    }
+}
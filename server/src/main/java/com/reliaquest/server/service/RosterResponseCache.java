@@ -0,0 +1,53 @@
+package com.reliaquest.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.store.EmployeeChangeLog;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/*
+ * Holds the fully encoded list response for the current roster version, so unfiltered polls skip Jackson entirely.
+ * Entries are tagged with the version they were encoded from and dropped on every mutation.
+ */
+@Slf4j
+@Service
+public class RosterResponseCache {
+
+    private final MockEmployeeStore mockEmployeeStore;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<EncodedRoster> encodedRoster = new AtomicReference<>();
+
+    public RosterResponseCache(
+            MockEmployeeStore mockEmployeeStore, EmployeeChangeLog changeLog, ObjectMapper objectMapper) {
+        this.mockEmployeeStore = mockEmployeeStore;
+        this.objectMapper = objectMapper;
+        changeLog.addListener(change -> encodedRoster.set(null));
+    }
+
+    public EncodedRoster get() {
+        final var cached = encodedRoster.get();
+        if (cached != null && cached.version() == mockEmployeeStore.version()) {
+            return cached;
+        }
+        final var roster = mockEmployeeStore.snapshot();
+        try {
+            final var encoded = new EncodedRoster(
+                    roster.version(), objectMapper.writeValueAsBytes(Response.handledWith(roster.employees())));
+            encodedRoster.accumulateAndGet(
+                    encoded, (current, candidate) -> current != null && current.version() >= candidate.version()
+                            ? current
+                            : candidate);
+            log.debug("Encoded roster version {} ({} bytes)", encoded.version(), encoded.body().length);
+            return encoded;
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record EncodedRoster(long version, byte[] body) {}
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * Bounded ring of roster mutations. Sequence numbers are roster versions, so an event with sequence n produced version n.
+ */
+@Component
+public class EmployeeChangeLog {
+
+    private final EmployeeChange[] ring;
+    private final List<Consumer<EmployeeChange>> listeners = new CopyOnWriteArrayList<>();
+    private long latestSequence;
+
+    public EmployeeChangeLog(@Value("${mock.changes.capacity:1024}") int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Change log capacity must be positive.");
+        }
+        this.ring = new EmployeeChange[capacity];
+    }
+
+    public void addListener(@NonNull Consumer<EmployeeChange> listener) {
+        listeners.add(listener);
+    }
+
+    public synchronized long latestSequence() {
+        return latestSequence;
+    }
+
+    public synchronized EmployeeChanges since(long since) {
+        final long oldestRetained = Math.max(1, latestSequence - ring.length + 1);
+        if (since > latestSequence || since + 1 < oldestRetained) {
+            return EmployeeChanges.resync(latestSequence);
+        }
+        final var changes = new ArrayList<EmployeeChange>((int) (latestSequence - since));
+        for (long sequence = since + 1; sequence <= latestSequence; sequence++) {
+            changes.add(ring[slot(sequence)]);
+        }
+        return new EmployeeChanges(changes, latestSequence, false);
+    }
+
+    /*
+     * Called by MockEmployeeStore while it holds its write lock; listeners must hand work off rather than block.
+     */
+    void append(@NonNull EmployeeChange change) {
+        synchronized (this) {
+            ring[slot(change.sequence())] = change;
+            latestSequence = change.sequence();
+        }
+        listeners.forEach(listener -> listener.accept(change));
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % ring.length);
+    }
+}
@@ -0,0 +1,212 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.EmployeePage;
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.VersionedRoster;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/*
+ * Indexed, thread-safe view over the mock roster. Iteration follows insertion order, matching the original list.
+ */
+@Slf4j
+@Component
+public class MockEmployeeStore {
+
+    private static final Comparator<Entry> INSERTION_ORDER = Comparator.comparingLong(Entry::ordinal);
+    private static final Comparator<Entry> BY_NAME = Comparator.comparing(
+            entry -> entry.employee().getName(), Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+    private static final Comparator<Entry> BY_SALARY = Comparator.comparing(
+            entry -> entry.employee().getSalary(), Comparator.nullsLast(Comparator.naturalOrder()));
+    private static final Comparator<Entry> BY_AGE = Comparator.comparing(
+            entry -> entry.employee().getAge(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final EmployeeChangeLog changeLog;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Entry> byId = new LinkedHashMap<>();
+    private final NavigableMap<Integer, List<Entry>> bySalary = new TreeMap<>();
+    private long nextOrdinal;
+    private volatile long version;
+
+    public MockEmployeeStore(List<MockEmployee> mockEmployees, EmployeeChangeLog changeLog) {
+        this.changeLog = changeLog;
+        mockEmployees.forEach(this::index);
+        log.debug("Indexed {} employees", byId.size());
+    }
+
+    /*
+     * Monotonically increasing; bumped by every create and delete.
+     */
+    public long version() {
+        return version;
+    }
+
+    public EmployeeChanges changesSince(long since) {
+        return changeLog.since(since);
+    }
+
+    public List<MockEmployee> findAll() {
+        return snapshot().employees();
+    }
+
+    public VersionedRoster snapshot() {
+        lock.readLock().lock();
+        try {
+            final var employees = new ArrayList<MockEmployee>(byId.size());
+            byId.values().forEach(entry -> employees.add(entry.employee()));
+            return new VersionedRoster(version, employees);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID uuid) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(byId.get(uuid)).map(Entry::employee);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public EmployeePage query(@NonNull EmployeeQuery query) {
+        lock.readLock().lock();
+        try {
+            final var matches = new ArrayList<Entry>();
+            for (Entry entry : candidates(query)) {
+                if (query.nameContains() == null
+                        || (entry.lowerCaseName() != null && entry.lowerCaseName().contains(query.nameContains()))) {
+                    matches.add(entry);
+                }
+            }
+            final var comparator = comparator(query);
+            if (comparator != null) {
+                matches.sort(comparator);
+            }
+
+            final int from = Math.min(query.offset(), matches.size());
+            final int to = query.limit() == null
+                    ? matches.size()
+                    : (int) Math.min((long) from + query.limit(), matches.size());
+            final var employees = new ArrayList<MockEmployee>(to - from);
+            for (int i = from; i < to; i++) {
+                employees.add(matches.get(i).employee());
+            }
+            return new EmployeePage(employees, matches.size(), version);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(@NonNull MockEmployee mockEmployee) {
+        lock.writeLock().lock();
+        try {
+            index(mockEmployee);
+            changeLog.append(new EmployeeChange(++version, EmployeeChange.Type.CREATED, mockEmployee, Instant.now()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<MockEmployee> removeFirst(@NonNull Predicate<MockEmployee> predicate) {
+        lock.writeLock().lock();
+        try {
+            final var match = byId.values().stream()
+                    .filter(entry -> predicate.test(entry.employee()))
+                    .findFirst();
+            if (match.isPresent()) {
+                unindex(match.get());
+                changeLog.append(new EmployeeChange(
+                        ++version, EmployeeChange.Type.DELETED, match.get().employee(), Instant.now()));
+            }
+            return match.map(Entry::employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(MockEmployee mockEmployee) {
+        Objects.requireNonNull(mockEmployee.getId(), "Mock employee id must not be null.");
+        final var lowerCaseName =
+                mockEmployee.getName() == null ? null : mockEmployee.getName().toLowerCase(Locale.ROOT);
+        final var entry = new Entry(mockEmployee, nextOrdinal++, lowerCaseName);
+        final var previous = byId.put(mockEmployee.getId(), entry);
+        if (previous != null) {
+            removeFromSalaryIndex(previous);
+        }
+        if (mockEmployee.getSalary() != null) {
+            bySalary.computeIfAbsent(mockEmployee.getSalary(), ignored -> new ArrayList<>())
+                    .add(entry);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        byId.remove(entry.employee().getId());
+        removeFromSalaryIndex(entry);
+    }
+
+    private void removeFromSalaryIndex(Entry entry) {
+        final var salary = entry.employee().getSalary();
+        if (salary == null) {
+            return;
+        }
+        final var entries = bySalary.get(salary);
+        if (entries != null) {
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                bySalary.remove(salary);
+            }
+        }
+    }
+
+    /*
+     * Salary-bounded queries only visit the matching slice of the salary index; everything else walks the roster.
+     */
+    private Iterable<Entry> candidates(EmployeeQuery query) {
+        if (!query.hasSalaryRange()) {
+            return byId.values();
+        }
+        final var range = bySalary.subMap(
+                Objects.requireNonNullElse(query.minSalary(), Integer.MIN_VALUE),
+                true,
+                Objects.requireNonNullElse(query.maxSalary(), Integer.MAX_VALUE),
+                true);
+        return () -> range.values().stream().flatMap(List::stream).iterator();
+    }
+
+    private static Comparator<Entry> comparator(EmployeeQuery query) {
+        if (query.sort() == null) {
+            return query.hasSalaryRange() ? INSERTION_ORDER : null;
+        }
+        return switch (query.sort()) {
+            case NAME -> BY_NAME;
+            case NAME_DESC -> BY_NAME.reversed();
+            // Candidates drawn from the salary index are already in ascending salary order.
+            case SALARY -> query.hasSalaryRange() ? null : BY_SALARY;
+            case SALARY_DESC -> BY_SALARY.reversed();
+            case AGE -> BY_AGE;
+            case AGE_DESC -> BY_AGE.reversed();
+        };
+    }
+
+    private record Entry(MockEmployee employee, long ordinal, String lowerCaseName) {}
+}
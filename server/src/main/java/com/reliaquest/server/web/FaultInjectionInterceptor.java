@@ -0,0 +1,80 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultInjectionProperties.EndpointFaults;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultInjectionService;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/*
+ * Applies the active fault profile to handler invocations: latency first, then injected errors or aborted connections.
+ * Trickling is performed by TricklingResponseFilter, which reads the faults this interceptor leaves on the request.
+ */
+@RequiredArgsConstructor
+public class FaultInjectionInterceptor implements HandlerInterceptor {
+
+    public static final String TRICKLE_ATTRIBUTE = FaultInjectionInterceptor.class.getName() + ".trickle";
+
+    private static final int ABORTED_CONTENT_LENGTH = 1024;
+    private static final byte[] ABORTED_BODY_PREFIX = "{\"data\":[".getBytes(StandardCharsets.UTF_8);
+
+    private final FaultInjectionService faultInjectionService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        if (!(handler instanceof HandlerMethod handlerMethod) || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        final var faults = faultInjectionService.faultsFor(handlerMethod.getMethod().getName());
+        if (faults == null) {
+            return true;
+        }
+
+        final var delay = faultInjectionService.sampleLatency(faults.getLatency());
+        if (!delay.isZero()) {
+            Thread.sleep(delay.toMillis());
+        }
+        if (faultInjectionService.roll(faults.getErrorRate())) {
+            writeError(response, faults);
+            return false;
+        }
+        if (faultInjectionService.roll(faults.getAbortRate())) {
+            abort(response);
+            return false;
+        }
+        if (faults.isTrickling()) {
+            request.setAttribute(TRICKLE_ATTRIBUTE, faults);
+        }
+        return true;
+    }
+
+    private void writeError(HttpServletResponse response, EndpointFaults faults) throws IOException {
+        response.setStatus(faults.getErrorStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault."));
+    }
+
+    /*
+     * Tomcat offers no portable way to send a TCP reset, so the connection is dropped mid-body instead: a longer body is
+     * promised, part of it is flushed and the connection is closed. Clients observe a premature EOF.
+     */
+    private void abort(HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(ABORTED_CONTENT_LENGTH);
+        final var out = response.getOutputStream();
+        out.write(ABORTED_BODY_PREFIX);
+        out.flush();
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 import java.util.random.RandomGenerator;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
@@ -17,9 +18,21 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
             Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
 
     private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private final Predicate<HttpServletRequest> exempt;
+
+    public RandomRequestLimitInterceptor() {
+        this(request -> false);
+    }
+
+    public RandomRequestLimitInterceptor(Predicate<HttpServletRequest> exempt) {
+        this.exempt = exempt;
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (exempt.test(request)) {
+            return true;
+        }
         if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
             if (Instant.now()
                     .minus(REQUEST_BACKOFF_DURATION)
@@ -0,0 +1,39 @@
+package com.reliaquest.server.web;
+
+import java.util.random.RandomGenerator;
+
+/*
+ * Entity tags for the roster version. The random epoch keeps tags from a previous server run (and its different random
+ * roster) from ever matching. Tags are weak because Tomcat skips compression for responses carrying a strong ETag.
+ */
+public final class RosterETag {
+
+    private static final String EPOCH = Integer.toHexString(RandomGenerator.getDefault().nextInt());
+
+    private RosterETag() {}
+
+    public static String of(long version) {
+        return "W/" + opaqueTag(version);
+    }
+
+    public static boolean matches(String ifNoneMatch, long version) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        final var current = opaqueTag(version);
+        for (String candidate : ifNoneMatch.split(",")) {
+            var tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(long version) {
+        return "\"" + EPOCH + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,113 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.config.FaultInjectionProperties.EndpointFaults;
+import com.reliaquest.server.service.FaultInjectionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * Dribbles response bodies out in small, delayed chunks for requests marked by FaultInjectionInterceptor. Responses are
+ * only wrapped while a fault profile is active.
+ */
+@RequiredArgsConstructor
+public class TricklingResponseFilter extends OncePerRequestFilter {
+
+    private final FaultInjectionService faultInjectionService;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!faultInjectionService.isActive()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        filterChain.doFilter(request, new TricklingResponse(request, response));
+    }
+
+    private static final class TricklingResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private ServletOutputStream trickling;
+
+        private TricklingResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (!(request.getAttribute(FaultInjectionInterceptor.TRICKLE_ATTRIBUTE) instanceof EndpointFaults faults)) {
+                return super.getOutputStream();
+            }
+            if (trickling == null) {
+                trickling = new TricklingOutputStream(super.getOutputStream(), faults);
+            }
+            return trickling;
+        }
+    }
+
+    private static final class TricklingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final int chunkBytes;
+        private final long intervalMillis;
+
+        private TricklingOutputStream(ServletOutputStream delegate, EndpointFaults faults) {
+            this.delegate = delegate;
+            this.chunkBytes = faults.getTrickleChunkBytes();
+            this.intervalMillis = faults.getTrickleInterval().toMillis();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            for (int written = 0; written < length; written += chunkBytes) {
+                delegate.write(bytes, offset + written, Math.min(chunkBytes, length - written));
+                delegate.flush();
+                try {
+                    Thread.sleep(intervalMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while trickling response body.");
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
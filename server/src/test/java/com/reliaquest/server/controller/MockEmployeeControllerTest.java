@@ -0,0 +1,122 @@
+package com.reliaquest.server.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeChangeStreamService;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.RosterResponseCache;
+import com.reliaquest.server.store.EmployeeChangeLog;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.util.List;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/*
+ * Runs the controller without the web configuration, so the random request limit and fault injection stay out of it.
+ */
+class MockEmployeeControllerTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        final var changeLog = new EmployeeChangeLog(16);
+        final var store = new MockEmployeeStore(
+                List.of(
+                        employee("Soumadipta Roy", 90_000),
+                        employee("Somantika Sarkar", 60_000),
+                        employee("Jane Doe", 75_000)),
+                changeLog);
+        final var controller = new MockEmployeeController(
+                new MockEmployeeService(new Faker(), store),
+                mock(EmployeeChangeStreamService.class),
+                new RosterResponseCache(store, changeLog, new ObjectMapper()));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void getEmployees_FiltersBySalaryAndReportsTotal() throws Exception {
+        mockMvc.perform(get(MockEmployeeController.BASE_PATH)
+                        .param("minSalary", "70000")
+                        .param("sort", "salary")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(MockEmployeeController.TOTAL_COUNT_HEADER, "2"))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Jane Doe"));
+    }
+
+    @Test
+    void getEmployees_NonNumericParameter_Returns400() throws Exception {
+        for (String parameter : List.of("offset", "limit", "minSalary", "maxSalary")) {
+            mockMvc.perform(get(MockEmployeeController.BASE_PATH).param(parameter, "abc"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Invalid value 'abc' for %s.".formatted(parameter)));
+        }
+    }
+
+    @Test
+    void getEmployees_InvalidQuery_Returns400() throws Exception {
+        mockMvc.perform(get(MockEmployeeController.BASE_PATH)
+                        .param("minSalary", "80000")
+                        .param("maxSalary", "70000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("minSalary must not exceed maxSalary."));
+        mockMvc.perform(get(MockEmployeeController.BASE_PATH).param("sort", "height"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unsupported sort: height"));
+    }
+
+    @Test
+    void getChanges_MissingOrNonNumericSince_Returns400() throws Exception {
+        mockMvc.perform(get(MockEmployeeController.BASE_PATH + "/changes")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(MockEmployeeController.BASE_PATH + "/changes").param("since", "yesterday"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid value 'yesterday' for since."));
+    }
+
+    @Test
+    void getEmployees_MatchingETag_Returns304UntilRosterChanges() throws Exception {
+        final var eTag = mockMvc.perform(get(MockEmployeeController.BASE_PATH))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(MockEmployeeController.BASE_PATH).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        mockMvc.perform(post(MockEmployeeController.BASE_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"New Hire\",\"salary\":50000,\"age\":30,\"title\":\"Engineer\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(MockEmployeeController.BASE_PATH).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(4));
+    }
+
+    private static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
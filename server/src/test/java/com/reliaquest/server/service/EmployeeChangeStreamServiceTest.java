@@ -0,0 +1,45 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeChangeLog;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeChangeStreamServiceTest {
+
+    private final EmployeeChangeLog changeLog = new EmployeeChangeLog(16);
+    private final MockEmployeeStore store = new MockEmployeeStore(List.of(), changeLog);
+    private final EmployeeChangeStreamService streamService =
+            new EmployeeChangeStreamService(changeLog, Duration.ofMinutes(1), 4);
+
+    @Test
+    void shutdown_WritesStillSucceedAndReachLaterListeners() {
+        final var seen = new ArrayList<EmployeeChange>();
+        changeLog.addListener(seen::add);
+        streamService.subscribe(0);
+        streamService.shutdown();
+
+        assertDoesNotThrow(() -> store.add(employee("New Hire")));
+
+        assertEquals(1, seen.size());
+        assertEquals(EmployeeChange.Type.CREATED, seen.get(0).type());
+    }
+
+    @Test
+    void subscriberBuffer_MustBePositive() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new EmployeeChangeStreamService(changeLog, Duration.ofMinutes(1), 0));
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder().id(UUID.randomUUID()).name(name).build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.config.FaultInjectionProperties.EndpointFaults;
+import com.reliaquest.server.config.FaultInjectionProperties.FaultProfile;
+import java.time.Duration;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+class FaultInjectionServiceTest {
+
+    private final FaultInjectionProperties properties = properties();
+
+    @Test
+    void faultsFor_UsesEndpointOverrideElseProfileDefaults() {
+        final var service = new FaultInjectionService(properties);
+        assertNull(service.faultsFor("getEmployees"));
+
+        service.activate("degraded");
+
+        assertEquals(0.5, service.faultsFor("getEmployees").getErrorRate());
+        assertEquals(0.05, service.faultsFor("getEmployeeById").getErrorRate());
+        service.deactivate();
+        assertNull(service.faultsFor("getEmployees"));
+        assertFalse(service.isActive());
+    }
+
+    @Test
+    void activate_UnknownProfileKeepsCurrentOne() {
+        final var service = new FaultInjectionService(properties);
+        service.activate("degraded");
+
+        assertThrows(IllegalArgumentException.class, () -> service.activate("meltdown"));
+        assertEquals("degraded", service.getActiveProfile());
+    }
+
+    @Test
+    void roll_SeededRateIsReproducibleAndCloseToConfigured() {
+        final var first = rolls(new FaultInjectionService(properties, seeded(42)), 0.05);
+        final var second = rolls(new FaultInjectionService(properties, seeded(42)), 0.05);
+
+        assertEquals(first, second);
+        final long injected = first.chars().filter(roll -> roll == '1').count();
+        assertTrue(injected > 400 && injected < 600, "injected " + injected);
+        assertFalse(new FaultInjectionService(properties, seeded(42)).roll(0));
+    }
+
+    @Test
+    void sampleLatency_StaysWithinUniformBounds() {
+        final var service = new FaultInjectionService(properties, seeded(42));
+        final var latency = new FaultInjectionProperties.Latency();
+        latency.setDistribution(FaultInjectionProperties.Distribution.UNIFORM);
+        latency.setMin(Duration.ofMillis(20));
+        latency.setMax(Duration.ofMillis(200));
+
+        for (int i = 0; i < 1_000; i++) {
+            final var sample = service.sampleLatency(latency);
+            assertTrue(sample.compareTo(latency.getMin()) >= 0 && sample.compareTo(latency.getMax()) < 0, "" + sample);
+        }
+    }
+
+    private static String rolls(FaultInjectionService service, double rate) {
+        final var rolls = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            rolls.append(service.roll(rate) ? '1' : '0');
+        }
+        return rolls.toString();
+    }
+
+    private static Supplier<RandomGenerator> seeded(long seed) {
+        final var random = new Random(seed);
+        return () -> random;
+    }
+
+    private static FaultInjectionProperties properties() {
+        final var defaults = new EndpointFaults();
+        defaults.setErrorRate(0.05);
+        final var roster = new EndpointFaults();
+        roster.setErrorRate(0.5);
+        final var profile = new FaultProfile();
+        profile.setDefaults(defaults);
+        profile.getEndpoints().put("getEmployees", roster);
+        final var properties = new FaultInjectionProperties();
+        properties.getProfiles().put("degraded", profile);
+        return properties;
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeChangeLogTest {
+
+    private final EmployeeChangeLog changeLog = new EmployeeChangeLog(4);
+
+    @BeforeEach
+    void setUp() {
+        // Sequences 3 to 6 stay in the ring.
+        for (long sequence = 1; sequence <= 6; sequence++) {
+            changeLog.append(change(sequence));
+        }
+    }
+
+    @Test
+    void since_OldestRetainedPredecessorReplaysWholeRing() {
+        final var changes = changeLog.since(2);
+
+        assertFalse(changes.resyncRequired());
+        assertEquals(
+                LongStream.rangeClosed(3, 6).boxed().toList(),
+                changes.changes().stream().map(EmployeeChange::sequence).toList());
+        assertEquals(6, changes.latestSequence());
+    }
+
+    @Test
+    void since_JustOutsideRingRequiresResync() {
+        final var changes = changeLog.since(1);
+
+        assertTrue(changes.resyncRequired());
+        assertTrue(changes.changes().isEmpty());
+        assertEquals(6, changes.latestSequence());
+    }
+
+    @Test
+    void since_LatestSequenceIsUpToDate() {
+        final var changes = changeLog.since(6);
+
+        assertFalse(changes.resyncRequired());
+        assertTrue(changes.changes().isEmpty());
+    }
+
+    @Test
+    void since_AheadOfLatestRequiresResync() {
+        assertTrue(changeLog.since(7).resyncRequired());
+    }
+
+    private static EmployeeChange change(long sequence) {
+        final var employee = MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee " + sequence)
+                .build();
+        return new EmployeeChange(sequence, EmployeeChange.Type.CREATED, employee, Instant.now());
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    private final MockEmployeeStore store = new MockEmployeeStore(
+            List.of(
+                    employee("Soumadipta Roy", 90_000, 30),
+                    employee("Somantika Sarkar", 60_000, 28),
+                    employee("Jane Doe", 75_000, 45),
+                    employee("John Smith", 60_000, 35),
+                    employee("Ada Lovelace", null, 36)),
+            new EmployeeChangeLog(16));
+
+    @Test
+    void query_SalaryRangeKeepsRosterOrder() {
+        final var page = store.query(EmployeeQuery.of(null, null, null, 60_000, 80_000, null));
+
+        assertEquals(List.of("Somantika Sarkar", "Jane Doe", "John Smith"), names(page.employees()));
+        assertEquals(3, page.total());
+    }
+
+    @Test
+    void query_SortsFiltersAndPages() {
+        final var page = store.query(EmployeeQuery.of(1, 2, "S", null, null, "-salary"));
+
+        assertEquals(List.of("Somantika Sarkar", "John Smith"), names(page.employees()));
+        assertEquals(3, page.total());
+    }
+
+    @Test
+    void query_SalarySortWithinRangeIsAscending() {
+        final var page = store.query(EmployeeQuery.of(null, null, null, 0, null, "salary"));
+
+        assertEquals(
+                List.of("Somantika Sarkar", "John Smith", "Jane Doe", "Soumadipta Roy"), names(page.employees()));
+    }
+
+    @Test
+    void removeFirst_DropsEmployeeFromSalaryIndexAndBumpsVersion() {
+        final long before = store.version();
+
+        final var removed = store.removeFirst(employee -> "John Smith".equals(employee.getName()));
+
+        assertTrue(removed.isPresent());
+        assertEquals(before + 1, store.version());
+        assertEquals(
+                List.of("Somantika Sarkar"),
+                names(store.query(EmployeeQuery.of(null, null, null, 60_000, 60_000, null))
+                        .employees()));
+        final var changes = store.changesSince(before).changes();
+        assertEquals(1, changes.size());
+        assertEquals(EmployeeChange.Type.DELETED, changes.get(0).type());
+    }
+
+    @Test
+    void add_IsIndexedAndVisibleToRangeQueries() {
+        final var hire = employee("New Hire", 60_000, 22);
+
+        store.add(hire);
+
+        assertEquals(hire, store.findById(hire.getId()).orElseThrow());
+        assertEquals(
+                List.of("Somantika Sarkar", "John Smith", "New Hire"),
+                names(store.query(EmployeeQuery.of(null, null, null, 60_000, 60_000, null))
+                        .employees()));
+    }
+
+    private static List<String> names(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getName).toList();
+    }
+
+    private static MockEmployee employee(String name, Integer salary, int age) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title("Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
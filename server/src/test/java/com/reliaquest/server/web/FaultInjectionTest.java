@@ -0,0 +1,186 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.config.FaultInjectionProperties.EndpointFaults;
+import com.reliaquest.server.config.FaultInjectionProperties.FaultProfile;
+import com.reliaquest.server.controller.FaultAdminController;
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.controller.MockEmployeeControllerAdvice;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeChangeStreamService;
+import com.reliaquest.server.service.FaultInjectionService;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.RosterResponseCache;
+import com.reliaquest.server.store.EmployeeChangeLog;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/*
+ * Wires the interceptor, the trickling filter and the admin endpoint around the real controller, as WebConfiguration
+ * does, minus the random request limit.
+ */
+class FaultInjectionTest {
+
+    private static final Duration TRICKLE_INTERVAL = Duration.ofMillis(2);
+    private static final int TRICKLE_CHUNK_BYTES = 16;
+
+    private FaultInjectionService faultInjectionService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        final var changeLog = new EmployeeChangeLog(16);
+        final var store = new MockEmployeeStore(
+                List.of(employee("Soumadipta Roy"), employee("Somantika Sarkar"), employee("Jane Doe")), changeLog);
+        final var controller = new MockEmployeeController(
+                new MockEmployeeService(new Faker(), store),
+                mock(EmployeeChangeStreamService.class),
+                new RosterResponseCache(store, changeLog, new ObjectMapper()));
+        final var random = new Random(42);
+        faultInjectionService = new FaultInjectionService(properties(), () -> random);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller, new FaultAdminController(faultInjectionService))
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .addMappedInterceptors(
+                        new String[] {MockEmployeeController.BASE_PATH + "/**"},
+                        new FaultInjectionInterceptor(faultInjectionService, new ObjectMapper()))
+                .addFilters(new TricklingResponseFilter(faultInjectionService))
+                .build();
+    }
+
+    @Test
+    void profile_AppliesPerEndpointOverride() throws Exception {
+        faultInjectionService.activate("errors");
+
+        // getEmployee has no override, so the profile's default error rate of 1 applies.
+        mockMvc.perform(get(MockEmployeeController.BASE_PATH + "/" + UUID.randomUUID()))
+                .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(get(MockEmployeeController.BASE_PATH)).andExpect(status().isOk());
+    }
+
+    @Test
+    void errorRate_InjectsConfiguredShareOf5xx() throws Exception {
+        faultInjectionService.activate("flaky");
+
+        int injected = 0;
+        for (int i = 0; i < 500; i++) {
+            final var response = mockMvc.perform(get(MockEmployeeController.BASE_PATH))
+                    .andReturn()
+                    .getResponse();
+            if (response.getStatus() == 503) {
+                assertTrue(response.getContentAsString().contains("Injected fault."));
+                injected++;
+            } else {
+                assertEquals(200, response.getStatus());
+            }
+        }
+
+        assertTrue(injected > 100 && injected < 200, "injected " + injected);
+    }
+
+    @Test
+    void trickle_DeliversWholeBodyInOrder() throws Exception {
+        final var expected = mockMvc.perform(get(MockEmployeeController.BASE_PATH))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        faultInjectionService.activate("trickle");
+
+        final long start = System.nanoTime();
+        final var trickled = mockMvc.perform(get(MockEmployeeController.BASE_PATH))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        final long elapsed = System.nanoTime() - start;
+
+        assertArrayEquals(expected, trickled);
+        final long chunks = (expected.length + TRICKLE_CHUNK_BYTES - 1) / TRICKLE_CHUNK_BYTES;
+        assertTrue(elapsed >= chunks * TRICKLE_INTERVAL.toNanos(), "took " + elapsed);
+    }
+
+    @Test
+    void abort_PromisesLongerBodyThanItSends() throws Exception {
+        faultInjectionService.activate("aborts");
+
+        final var response = mockMvc.perform(get(MockEmployeeController.BASE_PATH))
+                .andExpect(header().string(HttpHeaders.CONNECTION, "close"))
+                .andReturn()
+                .getResponse();
+
+        assertTrue(response.getContentAsByteArray().length < response.getContentLength());
+        assertEquals("{\"data\":[", response.getContentAsString());
+    }
+
+    @Test
+    void adminEndpoint_TogglesProfiles() throws Exception {
+        mockMvc.perform(get(FaultAdminController.BASE_PATH))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.activeProfile").value("none"));
+
+        mockMvc.perform(put(FaultAdminController.BASE_PATH + "/aborts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.activeProfile").value("aborts"));
+        mockMvc.perform(get(MockEmployeeController.BASE_PATH))
+                .andExpect(header().string(HttpHeaders.CONNECTION, "close"));
+
+        mockMvc.perform(put(FaultAdminController.BASE_PATH + "/meltdown")).andExpect(status().isBadRequest());
+        mockMvc.perform(delete(FaultAdminController.BASE_PATH))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.activeProfile").value("none"));
+        mockMvc.perform(get(MockEmployeeController.BASE_PATH))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3));
+    }
+
+    private static FaultInjectionProperties properties() {
+        final var properties = new FaultInjectionProperties();
+        properties.getProfiles().put("flaky", profile(faults(0.3, 0, 0)));
+        properties.getProfiles().put("aborts", profile(faults(0, 1, 0)));
+        properties.getProfiles().put("trickle", profile(faults(0, 0, TRICKLE_CHUNK_BYTES)));
+        final var errors = profile(faults(1, 0, 0));
+        errors.getEndpoints().put("getEmployees", faults(0, 0, 0));
+        properties.getProfiles().put("errors", errors);
+        return properties;
+    }
+
+    private static FaultProfile profile(EndpointFaults defaults) {
+        final var profile = new FaultProfile();
+        profile.setDefaults(defaults);
+        return profile;
+    }
+
+    private static EndpointFaults faults(double errorRate, double abortRate, int trickleChunkBytes) {
+        final var faults = new EndpointFaults();
+        faults.setErrorRate(errorRate);
+        faults.setAbortRate(abortRate);
+        faults.setTrickleChunkBytes(trickleChunkBytes);
+        faults.setTrickleInterval(TRICKLE_INTERVAL);
+        return faults;
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(60_000)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+}